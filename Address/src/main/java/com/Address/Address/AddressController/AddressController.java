@@ -1,28 +1,54 @@
 package com.Address.Address.AddressController;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
+import java.util.Map;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.Address.Address.AddressService.AddressService;
+import com.Address.AddressFields;
 import com.Address.AddressRequest;
 import com.Address.AddressResponse;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 @RestController
 public class AddressController {
 
+    private static final Logger log = LoggerFactory.getLogger(AddressController.class);
+
+    private static final int MAX_PAGE_SIZE = 1000;
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    private static final String NDJSON = "application/x-ndjson";
+    private static final String MERGE_PATCH_JSON = "application/merge-patch+json";
+
     @Autowired
     private AddressService addressService;
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
     // Create - POST
     @PostMapping("/address")
     public ResponseEntity<?> createAddress(@RequestBody AddressRequest addressRequest) {
@@ -30,40 +56,169 @@ public class AddressController {
             AddressResponse address = addressService.createAddress(addressRequest);
             return ResponseEntity.status(HttpStatus.CREATED).body(address);
         } catch (Exception e) {
-            e.printStackTrace();
+            log.error("createAddress failed", e);
             String errorMessage = e.getMessage() != null ? e.getMessage() : "Unknown error occurred";
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body("{\"error\": \"" + errorMessage.replace("\"", "\\\"") + "\"}");
         }
     }
 
-    // Read - Get by ID
-@GetMapping("/address/{empid}")
-public ResponseEntity<AddressResponse> getAddressById(@PathVariable("empid") int empid) {
-    AddressResponse address = addressService.getAddressById(empid);
-    if (address == null) {
-        return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+    // Create - POST many in one transaction
+    @PostMapping("/address/bulk")
+    public ResponseEntity<?> createAddresses(@RequestBody List<AddressRequest> addressRequests) {
+        try {
+            List<AddressResponse> addresses = addressService.createAddresses(addressRequests);
+            return ResponseEntity.status(HttpStatus.CREATED).body(addresses);
+        } catch (Exception e) {
+            log.error("createAddresses failed", e);
+            String errorMessage = e.getMessage() != null ? e.getMessage() : "Unknown error occurred";
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body("{\"error\": \"" + errorMessage.replace("\"", "\\\"") + "\"}");
+        }
+    }
+
+    // Read - Get by ID; ?fields=state,zip trims the response (the row itself usually comes from the cache).
+    // Tagged with the row version: If-None-Match with the current tag is answered 304 with no body
+    @GetMapping("/address/{id}")
+    public ResponseEntity<?> getAddressById(
+            @PathVariable("id") int id,
+            @RequestParam(value = "fields", required = false) List<String> fields) {
+        List<String> selected;
+        try {
+            selected = AddressFields.parse(fields);
+        } catch (IllegalArgumentException e) {
+            return badRequest(e);
+        }
+        AddressResponse address = addressService.getAddressById(id);
+        if (address == null) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        }
+        String etag = ETags.ofVersion(address.getAddressId(), address.getVersion(), selected);
+        if (selected != null) {
+            return ResponseEntity.status(HttpStatus.OK).eTag(etag).body(AddressFields.select(address, selected));
+        }
+        return ResponseEntity.status(HttpStatus.OK).eTag(etag).body(address);
     }
-    return ResponseEntity.status(HttpStatus.OK).body(address);
-}
 
-    // Read - Get All
+    // Read - Get All, optionally filtered (?state=CA&state=NV&zipFrom=90000&zipTo=96199, bounds inclusive);
+    // keyset paged when limit is given: ?limit=100&after=<last id>;
+    // ?fields=state,zip selects and returns only those columns (plus addressId and version).
+    // The ETag covers the id and version of every row returned, so an unchanged list is answered 304
     @GetMapping("/address")
-    public ResponseEntity<List<AddressResponse>> getAllAddresses() {
-        List<AddressResponse> addresses = addressService.getAllAddresses();
+    public ResponseEntity<?> getAllAddresses(
+            @RequestParam(value = "limit", required = false) Integer limit,
+            @RequestParam(value = "after", defaultValue = "0") int after,
+            @RequestParam(value = "state", required = false) List<String> states,
+            @RequestParam(value = "zipFrom", required = false) Integer zipFrom,
+            @RequestParam(value = "zipTo", required = false) Integer zipTo,
+            @RequestParam(value = "fields", required = false) List<String> fields) {
+        List<String> selected;
+        try {
+            selected = AddressFields.parse(fields);
+        } catch (IllegalArgumentException e) {
+            return badRequest(e);
+        }
+        if (selected != null) {
+            return getAddressFields(selected, states, zipFrom, zipTo, after, limit);
+        }
+        boolean filtered = states != null || zipFrom != null || zipTo != null;
+        if (limit == null) {
+            List<AddressResponse> addresses = filtered
+                    ? addressService.findAddresses(states, zipFrom, zipTo, after, null)
+                    : addressService.getAllAddresses();
+            return ResponseEntity.status(HttpStatus.OK).eTag(addressesETag(addresses)).body(addresses);
+        }
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        List<AddressResponse> addresses = filtered
+                ? addressService.findAddresses(states, zipFrom, zipTo, after, pageSize)
+                : addressService.getAddressesAfter(after, pageSize);
+        HttpHeaders headers = new HttpHeaders();
+        if (addresses.size() == pageSize) {
+            headers.set(NEXT_CURSOR_HEADER, String.valueOf(addresses.get(addresses.size() - 1).getAddressId()));
+        }
+        headers.setETag(addressesETag(addresses));
+        return ResponseEntity.status(HttpStatus.OK).headers(headers).body(addresses);
+    }
+
+    // Read - Stream All as newline-delimited JSON, one row written as it is read
+    @GetMapping(value = "/address/stream", produces = NDJSON)
+    public ResponseEntity<StreamingResponseBody> streamAllAddresses() {
+        StreamingResponseBody body = outputStream -> addressService.streamAllAddresses(address -> {
+            try {
+                outputStream.write(objectMapper.writeValueAsBytes(address));
+                outputStream.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return ResponseEntity.status(HttpStatus.OK).body(body);
+    }
+
+    /**
+     * Batch lookup so callers can resolve many addresses in one round trip
+     * @param ids Address IDs
+     * @return Addresses found; missing IDs are simply absent
+     */
+    @PostMapping("/address/batch")
+    public ResponseEntity<List<AddressResponse>> getAddressesByIds(@RequestBody List<Integer> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.OK).body(List.of());
+        }
+        List<AddressResponse> addresses = addressService.getAddressesByIds(ids);
         return ResponseEntity.status(HttpStatus.OK).body(addresses);
     }
 
-    // Update - PUT
+    // Update - PUT many in one transaction, keyed by address id: {"12": {...}, "13": {...}}
+    @PutMapping("/address/bulk")
+    public ResponseEntity<List<AddressResponse>> updateAddresses(@RequestBody Map<Integer, AddressRequest> addressRequests) {
+        List<AddressResponse> addresses;
+        try {
+            addresses = addressService.updateAddresses(addressRequests);
+        } catch (OptimisticLockingFailureException e) {
+            return updateConflict(false);
+        }
+        return ResponseEntity.status(HttpStatus.OK).body(addresses);
+    }
+
+    // Update - PUT; If-Match with the address's ETag makes it conditional
     @PutMapping("/address/{id}")
     public ResponseEntity<AddressResponse> updateAddress(
             @PathVariable("id") int id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @RequestBody AddressRequest addressRequest) {
-        AddressResponse address = addressService.updateAddress(id, addressRequest);
+        Long expectedVersion = ETags.ifMatchVersion(ifMatch, id);
+        AddressResponse address;
+        try {
+            address = addressService.updateAddress(id, addressRequest, expectedVersion);
+        } catch (OptimisticLockingFailureException e) {
+            return updateConflict(expectedVersion != null);
+        }
+        if (address == null) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        }
+        return ResponseEntity.status(HttpStatus.OK).eTag(ETags.ofVersion(address.getAddressId(), address.getVersion(), null)).body(address);
+    }
+
+    // Partial update - PATCH with a JSON Merge Patch: {"zip": 560001} changes the zip and nothing else.
+    // Unlike PUT, fields left out keep their values; If-Match works as for PUT
+    @PatchMapping(value = "/address/{id}", consumes = { MERGE_PATCH_JSON, MediaType.APPLICATION_JSON_VALUE })
+    public ResponseEntity<?> patchAddress(
+            @PathVariable("id") int id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestBody JsonNode patch) {
+        Long expectedVersion = ETags.ifMatchVersion(ifMatch, id);
+        AddressResponse address;
+        try {
+            address = addressService.patchAddress(id, patch, expectedVersion);
+        } catch (IllegalArgumentException e) {
+            return badRequest(e);
+        } catch (OptimisticLockingFailureException e) {
+            return updateConflict(expectedVersion != null);
+        }
         if (address == null) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
         }
-        return ResponseEntity.status(HttpStatus.OK).body(address);
+        return ResponseEntity.status(HttpStatus.OK).eTag(ETags.ofVersion(address.getAddressId(), address.getVersion(), null)).body(address);
     }
 
     // Delete - DELETE
@@ -76,4 +231,111 @@ public ResponseEntity<AddressResponse> getAddressById(@PathVariable("empid") int
         return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
     }
 
+    // Delete - DELETE many; ids that do not exist are ignored
+    @DeleteMapping("/address/bulk")
+    public ResponseEntity<Void> deleteAddresses(@RequestBody List<Integer> ids) {
+        if (ids != null && !ids.isEmpty()) {
+            addressService.deleteAddresses(ids);
+        }
+        return ResponseEntity.status(HttpStatus.NO_CONTENT).build();
+    }
+
+    // By employee - addresses looked up through the unique employee_id index, as the Employee service does
+
+    // Read - Get the employee's address; the Employee service revalidates its copy with If-None-Match
+    @GetMapping("/address/employee/{employeeId}")
+    public ResponseEntity<AddressResponse> getAddressByEmployeeId(@PathVariable("employeeId") int employeeId) {
+        AddressResponse address = addressService.getAddressByEmployeeId(employeeId);
+        if (address == null) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        }
+        return ResponseEntity.status(HttpStatus.OK).eTag(ETags.ofVersion(address.getAddressId(), address.getVersion(), null)).body(address);
+    }
+
+    // Read - Batch lookup by employee IDs; employees without an address are simply absent
+    @PostMapping("/address/employee/batch")
+    public ResponseEntity<List<AddressResponse>> getAddressesByEmployeeIds(@RequestBody List<Integer> employeeIds) {
+        if (employeeIds == null || employeeIds.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.OK).body(List.of());
+        }
+        List<AddressResponse> addresses = addressService.getAddressesByEmployeeIds(employeeIds);
+        return ResponseEntity.status(HttpStatus.OK).body(addresses);
+    }
+
+    // Update - PUT (idempotent upsert: creates the employee's address if it does not exist yet);
+    // If-Match makes it a conditional update of the address the tag was issued for
+    @PutMapping("/address/employee/{employeeId}")
+    public ResponseEntity<AddressResponse> upsertAddressForEmployee(
+            @PathVariable("employeeId") int employeeId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestBody AddressRequest addressRequest) {
+        ETags.RowTag expected = ETags.ifMatch(ifMatch);
+        Integer expectedAddressId = expected != null ? expected.addressId() : null;
+        Long expectedVersion = expected != null ? expected.version() : null;
+        AddressResponse address;
+        try {
+            try {
+                address = addressService.upsertAddressForEmployee(employeeId, addressRequest, expectedAddressId, expectedVersion);
+            } catch (DataIntegrityViolationException e) {
+                // A concurrent PUT created the employee's address first - this one becomes an update
+                address = addressService.upsertAddressForEmployee(employeeId, addressRequest, expectedAddressId, expectedVersion);
+            }
+        } catch (OptimisticLockingFailureException e) {
+            return updateConflict(expected != null);
+        }
+        return ResponseEntity.status(HttpStatus.OK).eTag(ETags.ofVersion(address.getAddressId(), address.getVersion(), null)).body(address);
+    }
+
+    // Delete - DELETE the employee's address
+    @DeleteMapping("/address/employee/{employeeId}")
+    public ResponseEntity<Void> deleteAddressForEmployee(@PathVariable("employeeId") int employeeId) {
+        boolean deleted = addressService.deleteAddressForEmployee(employeeId);
+        if (deleted) {
+            return ResponseEntity.status(HttpStatus.NO_CONTENT).build();
+        }
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+    }
+
+    // Delete - DELETE the addresses of many employees; employees without one are ignored
+    @DeleteMapping("/address/employee/bulk")
+    public ResponseEntity<Void> deleteAddressesForEmployees(@RequestBody List<Integer> employeeIds) {
+        if (employeeIds != null && !employeeIds.isEmpty()) {
+            addressService.deleteAddressesForEmployees(employeeIds);
+        }
+        return ResponseEntity.status(HttpStatus.NO_CONTENT).build();
+    }
+
+    // The listing with only the selected columns read from the database; paged the same way as the full one
+    private ResponseEntity<?> getAddressFields(List<String> fields, List<String> states, Integer zipFrom, Integer zipTo, int after, Integer limit) {
+        if (limit == null) {
+            List<Map<String, Object>> addresses = addressService.findAddressFields(fields, states, zipFrom, zipTo, after, null);
+            return ResponseEntity.status(HttpStatus.OK).eTag(fieldsETag(addresses, fields)).body(addresses);
+        }
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        List<Map<String, Object>> addresses = addressService.findAddressFields(fields, states, zipFrom, zipTo, after, pageSize);
+        HttpHeaders headers = new HttpHeaders();
+        if (addresses.size() == pageSize) {
+            headers.set(NEXT_CURSOR_HEADER, String.valueOf(addresses.get(addresses.size() - 1).get(AddressFields.ID)));
+        }
+        headers.setETag(fieldsETag(addresses, fields));
+        return ResponseEntity.status(HttpStatus.OK).headers(headers).body(addresses);
+    }
+
+    private static String addressesETag(List<AddressResponse> addresses) {
+        return ETags.ofRows(addresses, AddressResponse::getAddressId, AddressResponse::getVersion, null);
+    }
+
+    private static String fieldsETag(List<Map<String, Object>> addresses, List<String> fields) {
+        return ETags.ofRows(addresses, row -> (Integer) row.get(AddressFields.ID), row -> (Long) row.get(AddressFields.VERSION), fields);
+    }
+
+    private ResponseEntity<?> badRequest(IllegalArgumentException e) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body("{\"error\": \"" + e.getMessage().replace("\"", "\\\"") + "\"}");
+    }
+
+    // 412 when the caller's If-Match no longer holds, 409 when another update committed in between ours
+    private static <T> ResponseEntity<T> updateConflict(boolean conditional) {
+        return ResponseEntity.status(conditional ? HttpStatus.PRECONDITION_FAILED : HttpStatus.CONFLICT).build();
+    }
 }
@@ -0,0 +1,87 @@
+package com.Address.Address.AddressController;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+import org.springframework.util.DigestUtils;
+
+/**
+ * ETags built from the version column rather than by hashing the response body.
+ * A single address's tag is its id and version, "<addressId>-<version>": an employee's address that is
+ * deleted and created again starts over at version 0, and only the new id tells the copies apart.
+ * A list's tag is a digest of the id and version of every row, so an insert, update or delete of any row
+ * in it changes the tag. A sparse fieldset is a different representation of the same rows and is tagged as such.
+ * Row tags are strong. List tags are weak: the same tag goes out with the gzip and the identity encoding,
+ * and Tomcat only compresses responses without a strong ETag. If-None-Match compares weakly either way.
+ * Set on a 200 ResponseEntity, Spring MVC answers a matching If-None-Match with 304 and no body.
+ */
+final class ETags {
+
+    // If-Match version that no row has, so the conditional update fails with 412
+    static final long NO_VERSION = -1;
+    // What an If-Match tag that names no single row parses to; no address has this id or version
+    static final RowTag NO_ROW = new RowTag(-1, NO_VERSION);
+
+    // The address and version a strong single-row tag was issued for
+    record RowTag(int addressId, long version) {
+    }
+
+    private ETags() {
+    }
+
+    /**
+     * The row an If-Match header asks an update to apply to
+     * @param ifMatch Header value, null when absent
+     * @return The address id and version of a strong single-row tag; null for no header or "*", which leave
+     *         the update unconditional; NO_ROW for anything else, as a weak or list tag never matches strongly
+     */
+    static RowTag ifMatch(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.strip().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.strip();
+        int dash = tag.indexOf('-');
+        if (tag.length() > 2 && tag.startsWith("\"") && tag.endsWith("\"") && dash > 0) {
+            try {
+                return new RowTag(Integer.parseInt(tag.substring(1, dash)),
+                        Long.parseLong(tag.substring(dash + 1, tag.length() - 1)));
+            } catch (NumberFormatException e) {
+                // a list or sparse-fieldset tag
+            }
+        }
+        return NO_ROW;
+    }
+
+    // The version If-Match asks an update of this address to apply to; another address's tag gives NO_VERSION
+    static Long ifMatchVersion(String ifMatch, int addressId) {
+        RowTag tag = ifMatch(ifMatch);
+        if (tag == null) {
+            return null;
+        }
+        return tag.addressId() == addressId ? tag.version() : NO_VERSION;
+    }
+
+    // fields as returned by AddressFields.parse, null for the full representation
+    static String ofVersion(int addressId, long version, List<String> fields) {
+        return quote(addressId + "-" + version + suffix(fields));
+    }
+
+    static <T> String ofRows(List<T> rows, ToIntFunction<T> id, ToLongFunction<T> version, List<String> fields) {
+        StringBuilder versions = new StringBuilder(rows.size() * 12);
+        for (T row : rows) {
+            versions.append(id.applyAsInt(row)).append(':').append(version.applyAsLong(row)).append(',');
+        }
+        versions.append(suffix(fields));
+        return "W/" + quote(DigestUtils.md5DigestAsHex(versions.toString().getBytes(StandardCharsets.US_ASCII)));
+    }
+
+    private static String suffix(List<String> fields) {
+        return fields == null ? "" : "-" + String.join(".", fields);
+    }
+
+    private static String quote(String tag) {
+        return "\"" + tag + "\"";
+    }
+}
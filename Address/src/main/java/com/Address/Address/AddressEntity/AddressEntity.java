@@ -1,20 +1,47 @@
 package com.Address.Address.AddressEntity;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
+
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 
 @Entity
-@Table(name="address")
+// The unique index makes lookups by employee a single point read; MySQL allows any number of NULLs in it.
+// The GET /address filters use (state, zip) for a state with or without a zip range, and zip alone for a range in any state
+@Table(name="address", indexes = {
+        @Index(name="ux_address_employee_id", columnList="employee_id", unique=true),
+        @Index(name="ix_address_state_zip", columnList="state, zip"),
+        @Index(name="ix_address_zip", columnList="zip") })
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "address")
+// UPDATEs set only the changed columns (and version): a one-field PATCH writes and logs one column.
+// Bulk updates that change different columns per row are batched per distinct statement
+@DynamicUpdate
 public class AddressEntity {
 
+    // Ids handed out per sequence round trip; lets Hibernate batch inserts (IDENTITY cannot)
+    public static final int ID_ALLOCATION_SIZE = 50;
+
 
     @Id
-    @GeneratedValue(strategy=jakarta.persistence.GenerationType.IDENTITY)
+    @GeneratedValue(strategy=GenerationType.SEQUENCE, generator="address_seq")
+    @SequenceGenerator(name="address_seq", sequenceName="address_seq", allocationSize=AddressEntity.ID_ALLOCATION_SIZE)
     @Column(name="address_id")
     private int addressId;
+    // The employee this address belongs to; null for addresses created without one
+    @Column(name="employee_id")
+    private Integer employeeId;
     @Column(name="lane_1")
     private String lane_1;
     @Column(name="lane_2")
@@ -23,10 +50,19 @@ public class AddressEntity {
     private String state;
     @Column(name="zip")
     private int zip;
+    // Bumped by Hibernate on every update; the ETag of the address's representations.
+    // The default fills the column for rows that existed before it (and for inserts made outside JPA)
+    @Version
+    @ColumnDefault("0")
+    @Column(name="version", nullable=false)
+    private long version;
     
     public int getAddressId() {
         return addressId;
     }
+    public Integer getEmployeeId() {
+        return employeeId;
+    }
     public String getLane_1() {
         return lane_1;
     }
@@ -39,11 +75,18 @@ public class AddressEntity {
     public int getZip() {
         return zip;
     }
+    public long getVersion() {
+        return version;
+    }
 
     public void setAddressId(int addressId) {
         this.addressId = addressId;
     }
 
+    public void setEmployeeId(Integer employeeId) {
+        this.employeeId = employeeId;
+    }
+
     public void setLane_1(String lane_1) {
         this.lane_1 = lane_1;
     }
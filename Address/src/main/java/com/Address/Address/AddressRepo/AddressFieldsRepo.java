@@ -0,0 +1,25 @@
+package com.Address.Address.AddressRepo;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.Address.Address.AddressEntity.AddressEntity;
+
+/**
+ * Column projections for the sparse-fieldset reads, mixed into AddressRepo.
+ * Which columns are wanted is only known per request, so the select list is built at run time
+ * rather than declared as one projection interface per combination.
+ */
+public interface AddressFieldsRepo {
+
+    /**
+     * Selects only the given attributes of the matching addresses, in id order
+     * @param specification Filter, as built by AddressSpecifications
+     * @param fields AddressEntity attribute names to select
+     * @param limit Maximum number of rows, or null for every match
+     * @return One map per row, attribute name to value, in the order of fields
+     */
+    List<Map<String, Object>> findFields(Specification<AddressEntity> specification, List<String> fields, Integer limit);
+}
@@ -1,11 +1,56 @@
 package com.Address.Address.AddressRepo;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.Address.Address.AddressEntity.AddressEntity;
 
+import jakarta.persistence.QueryHint;
+
 
 
 @Repository
-public interface AddressRepo extends JpaRepository<AddressEntity, Integer> {}
+// Filtered listings go through JpaSpecificationExecutor with AddressSpecifications; sparse-fieldset reads through AddressFieldsRepo
+public interface AddressRepo extends JpaRepository<AddressEntity, Integer>, JpaSpecificationExecutor<AddressEntity>, AddressFieldsRepo {
+
+    // Served from the query cache when hibernate.cache.use_query_cache is on
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<AddressEntity> findAll();
+
+    // Keyset page: next rows after the given id, walking the primary key index
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<AddressEntity> findByAddressIdGreaterThanOrderByAddressIdAsc(int after, Limit limit);
+
+    // Cursor-backed stream; must be consumed inside a transaction and closed
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("select a from AddressEntity a order by a.addressId")
+    Stream<AddressEntity> streamAll();
+
+    // Point lookup on the unique employee_id index
+    Optional<AddressEntity> findByEmployeeId(int employeeId);
+
+    // One IN query on the employee_id index; AddressService passes at most BULK_CHUNK_SIZE ids
+    List<AddressEntity> findByEmployeeIdIn(Collection<Integer> employeeIds);
+
+    // Employees linked to these addresses, so their by-employee lookups can be pinned to the primary after a delete
+    @Query("select a.employeeId from AddressEntity a where a.addressId in :addressIds and a.employeeId is not null")
+    List<Integer> findEmployeeIdsByAddressIdIn(@Param("addressIds") Collection<Integer> addressIds);
+
+    // Single DELETE ... WHERE employee_id IN (...) per chunk of ids; Hibernate evicts the address cache region afterwards
+    @Modifying
+    @Query("delete from AddressEntity a where a.employeeId in :employeeIds")
+    int deleteByEmployeeIdIn(@Param("employeeIds") Collection<Integer> employeeIds);
+}
@@ -0,0 +1,47 @@
+package com.Address.Address.AddressRepo;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.Address.Address.AddressEntity.AddressEntity;
+
+import jakarta.persistence.criteria.Predicate;
+
+/**
+ * Predicates for the filtered address listing.
+ * Only the filters actually given end up in the WHERE clause, so the database sees a plain
+ * IN / range on an indexed column instead of "(:x IS NULL OR column = :x)", which it cannot use an index for.
+ */
+public final class AddressSpecifications {
+
+    private AddressSpecifications() {
+    }
+
+    /**
+     * @param states Any of these states; null or empty for any
+     * @param zipFrom Lowest zip, inclusive; null for no lower bound
+     * @param zipTo Highest zip, inclusive; null for no upper bound
+     * @param after Keyset cursor: only ids greater than this (0 for the first page)
+     */
+    public static Specification<AddressEntity> matching(Collection<String> states, Integer zipFrom, Integer zipTo, int after) {
+        return (root, query, criteriaBuilder) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if (states != null && !states.isEmpty()) {
+                predicates.add(root.get("state").in(states));
+            }
+            if (zipFrom != null) {
+                predicates.add(criteriaBuilder.greaterThanOrEqualTo(root.get("zip"), zipFrom));
+            }
+            if (zipTo != null) {
+                predicates.add(criteriaBuilder.lessThanOrEqualTo(root.get("zip"), zipTo));
+            }
+            if (after > 0) {
+                predicates.add(criteriaBuilder.greaterThan(root.get("addressId"), after));
+            }
+            return criteriaBuilder.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+}
@@ -1,79 +1,348 @@
 package com.Address.Address.AddressService;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
-import org.modelmapper.ModelMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.Address.Address.AddressEntity.AddressEntity;
 import com.Address.Address.AddressRepo.AddressRepo;
+import com.Address.Address.AddressRepo.AddressSpecifications;
+import com.Address.Address.datasource.RecentWrites;
+import com.Address.Address.mapper.AddressMapper;
 import com.Address.AddressRequest;
 import com.Address.AddressResponse;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 
 @Service
 public class AddressService {
 
+    private static final Logger log = LoggerFactory.getLogger(AddressService.class);
+
+    // Rows flushed and cleared from the persistence context at a time during bulk writes, and ids per IN list
+    // in batch reads and deletes (MySQL caps a statement at 65,535 placeholders)
+    private static final int BULK_CHUNK_SIZE = 500;
+    private static final Sort BY_ID = Sort.by("addressId");
+
+    // Read-your-writes key for lookups by employee, kept apart from the address ids
+    private record EmployeeKey(int employeeId) {
+    }
+
     private final AddressRepo addressRepo;
-    private final ModelMapper modelMapper;
+    private final AddressMapper addressMapper;
+    // Ids written here recently, read back from the primary rather than the replica
+    private final RecentWrites recentWrites;
 
-    public AddressService(AddressRepo addressRepo, ModelMapper modelMapper) {
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public AddressService(AddressRepo addressRepo, AddressMapper addressMapper, RecentWrites recentWrites) {
         this.addressRepo = addressRepo;
-        this.modelMapper = modelMapper;
+        this.addressMapper = addressMapper;
+        this.recentWrites = recentWrites;
     }
 
     // Create
     public AddressResponse createAddress(AddressRequest addressRequest) {
         try {
-            AddressEntity addressEntity = modelMapper.map(addressRequest, AddressEntity.class);
+            AddressEntity addressEntity = addressMapper.toEntity(addressRequest);
             AddressEntity savedEntity = addressRepo.save(addressEntity);
-            return modelMapper.map(savedEntity, AddressResponse.class);
+            recordWrite(savedEntity);
+            return addressMapper.toResponse(savedEntity);
         } catch (Exception e) {
-            e.printStackTrace();
+            log.error("createAddress failed", e);
             throw new RuntimeException("Failed to create address: " + e.getMessage(), e);
         }
     }
 
-    // Read - Get by ID
+    // Create - many in one transaction; inserts go out as JDBC batches of hibernate.jdbc.batch_size
+    @Transactional
+    public List<AddressResponse> createAddresses(List<AddressRequest> addressRequests) {
+        List<AddressResponse> created = new ArrayList<>(addressRequests.size());
+        for (int from = 0; from < addressRequests.size(); from += BULK_CHUNK_SIZE) {
+            List<AddressEntity> chunk = addressRequests
+                    .subList(from, Math.min(from + BULK_CHUNK_SIZE, addressRequests.size()))
+                    .stream()
+                    .map(request -> addressMapper.toEntity(request))
+                    .collect(Collectors.toList());
+            addressRepo.saveAll(chunk);
+            addressRepo.flush();
+            chunk.forEach(entity -> {
+                recordWrite(entity);
+                created.add(addressMapper.toResponse(entity));
+            });
+            entityManager.clear();
+        }
+        return created;
+    }
+
+    // Read - Get by ID (from the replica unless this instance wrote the id within the read-your-writes window)
+    @Transactional(readOnly = true)
     public AddressResponse getAddressById(int id) {
-        AddressEntity addressEntity = addressRepo.findById(id).orElse(null);
+        AddressEntity addressEntity = recentWrites.read(id, () -> addressRepo.findById(id).orElse(null));
         if (addressEntity == null) {
             return null;
         }
-        return modelMapper.map(addressEntity, AddressResponse.class);
+        return addressMapper.toResponse(addressEntity);
     }
 
-    // Read - Get All
+    // Read - Get All (from the replica, so it can trail writes by the replication lag)
+    @Transactional(readOnly = true)
     public List<AddressResponse> getAllAddresses() {
         List<AddressEntity> addressEntities = addressRepo.findAll();
         return addressEntities.stream()
-                .map(entity -> modelMapper.map(entity, AddressResponse.class))
+                .map(entity -> addressMapper.toResponse(entity))
+                .collect(Collectors.toList());
+    }
+
+    // Read - Keyset page (rows with id greater than the cursor)
+    @Transactional(readOnly = true)
+    public List<AddressResponse> getAddressesAfter(int after, int limit) {
+        List<AddressEntity> addressEntities = addressRepo.findByAddressIdGreaterThanOrderByAddressIdAsc(after, Limit.of(limit));
+        return addressEntities.stream()
+                .map(entity -> addressMapper.toResponse(entity))
+                .collect(Collectors.toList());
+    }
+
+    // Read - Filtered by state and/or zip range, in id order (from the replica); filters left null are not applied,
+    // a null limit returns every match
+    @Transactional(readOnly = true)
+    public List<AddressResponse> findAddresses(List<String> states, Integer zipFrom, Integer zipTo, int after, Integer limit) {
+        List<AddressEntity> addressEntities = addressRepo.findBy(AddressSpecifications.matching(states, zipFrom, zipTo, after),
+                query -> limit == null ? query.sortBy(BY_ID).all() : query.sortBy(BY_ID).limit(limit).all());
+        return addressEntities.stream()
+                .map(entity -> addressMapper.toResponse(entity))
+                .collect(Collectors.toList());
+    }
+
+    // Read - Sparse fieldset: like findAddresses, but only the given columns (from AddressFields.parse) are selected;
+    // one map per address, field name to value
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> findAddressFields(List<String> fields, List<String> states, Integer zipFrom, Integer zipTo, int after, Integer limit) {
+        return addressRepo.findFields(AddressSpecifications.matching(states, zipFrom, zipTo, after), fields, limit);
+    }
+
+    // Read - Stream All one row at a time, detaching rows so memory stays flat
+    @Transactional(readOnly = true)
+    public void streamAllAddresses(Consumer<AddressResponse> consumer) {
+        try (Stream<AddressEntity> addressEntities = addressRepo.streamAll()) {
+            addressEntities.forEach(entity -> {
+                consumer.accept(addressMapper.toResponse(entity));
+                entityManager.detach(entity);
+            });
+        }
+    }
+
+    // Read - Get many by ID, one IN query per chunk
+    @Transactional(readOnly = true)
+    public List<AddressResponse> getAddressesByIds(List<Integer> ids) {
+        List<AddressEntity> addressEntities = new ArrayList<>(ids.size());
+        for (int from = 0; from < ids.size(); from += BULK_CHUNK_SIZE) {
+            addressEntities.addAll(addressRepo.findAllById(ids.subList(from, Math.min(from + BULK_CHUNK_SIZE, ids.size()))));
+        }
+        return addressEntities.stream()
+                .map(entity -> addressMapper.toResponse(entity))
+                .collect(Collectors.toList());
+    }
+
+    // Read - Get by employee: one point query on the employee_id index
+    @Transactional(readOnly = true)
+    public AddressResponse getAddressByEmployeeId(int employeeId) {
+        AddressEntity addressEntity = recentWrites.read(new EmployeeKey(employeeId),
+                () -> addressRepo.findByEmployeeId(employeeId).orElse(null));
+        if (addressEntity == null) {
+            return null;
+        }
+        return addressMapper.toResponse(addressEntity);
+    }
+
+    // Read - Get many by employee, one IN query per chunk; employees without an address are absent
+    @Transactional(readOnly = true)
+    public List<AddressResponse> getAddressesByEmployeeIds(List<Integer> employeeIds) {
+        List<AddressEntity> addressEntities = new ArrayList<>(employeeIds.size());
+        for (int from = 0; from < employeeIds.size(); from += BULK_CHUNK_SIZE) {
+            addressEntities.addAll(addressRepo.findByEmployeeIdIn(
+                    employeeIds.subList(from, Math.min(from + BULK_CHUNK_SIZE, employeeIds.size()))));
+        }
+        return addressEntities.stream()
+                .map(entity -> addressMapper.toResponse(entity))
                 .collect(Collectors.toList());
     }
 
-    // Update
-    public AddressResponse updateAddress(int id, AddressRequest addressRequest) {
+    /**
+     * Update. The lookup is normally served by the second-level cache, so the versioned
+     * UPDATE ... WHERE address_id = ? AND version = ? is the only statement; it matches no row when another
+     * writer got there first, which fails the update rather than overwriting their change.
+     * @param expectedVersion Version the caller read (If-Match), or null to update whatever is current
+     * @return Updated address, or null if there is no such address
+     * @throws org.springframework.dao.OptimisticLockingFailureException if the row is not at expectedVersion
+     *         or was changed concurrently
+     */
+    @Transactional
+    public AddressResponse updateAddress(int id, AddressRequest addressRequest, Long expectedVersion) {
         AddressEntity addressEntity = addressRepo.findById(id).orElse(null);
         if (addressEntity == null) {
             return null;
         }
+        checkVersion(addressEntity, expectedVersion);
         
-        addressEntity.setLane_1(addressRequest.getLane_1());
-        addressEntity.setLane_2(addressRequest.getLane_2());
-        addressEntity.setState(addressRequest.getState());
-        addressEntity.setZip(addressRequest.getZip());
+        addressMapper.copyToEntity(addressRequest, addressEntity);
         
-        AddressEntity updatedEntity = addressRepo.save(addressEntity);
-        return modelMapper.map(updatedEntity, AddressResponse.class);
+        // Flushed here so the response carries the incremented version
+        AddressEntity updatedEntity = addressRepo.saveAndFlush(addressEntity);
+        recordWrite(updatedEntity);
+        return addressMapper.toResponse(updatedEntity);
+    }
+
+    // Update - many in one transaction; ids that do not exist are skipped
+    @Transactional
+    public List<AddressResponse> updateAddresses(Map<Integer, AddressRequest> addressRequests) {
+        List<Integer> ids = new ArrayList<>(addressRequests.keySet());
+        List<AddressResponse> updated = new ArrayList<>(ids.size());
+        for (int from = 0; from < ids.size(); from += BULK_CHUNK_SIZE) {
+            List<AddressEntity> chunk = addressRepo.findAllById(ids.subList(from, Math.min(from + BULK_CHUNK_SIZE, ids.size())));
+            chunk.forEach(entity -> addressMapper.copyToEntity(addressRequests.get(entity.getAddressId()), entity));
+            addressRepo.flush();
+            chunk.forEach(entity -> {
+                recordWrite(entity);
+                updated.add(addressMapper.toResponse(entity));
+            });
+            entityManager.clear();
+        }
+        return updated;
+    }
+
+    /**
+     * Upsert by employee: update the employee's address, or create one linked to the employee when missing.
+     * The new row takes its address id from the sequence like any other. Two concurrent creates for one
+     * employee collide on the unique employee_id index (DataIntegrityViolationException); retrying then updates.
+     * @param employeeId Employee the address belongs to
+     * @param addressRequest New field values
+     * @param expectedAddressId Address the caller read (If-Match), or null for whichever address the employee has
+     * @param expectedVersion Version the caller read (If-Match), or null to update or create unconditionally
+     * @return The stored address
+     * @throws org.springframework.dao.OptimisticLockingFailureException if the address is not expectedAddressId at
+     *         expectedVersion (or does not exist yet), or was changed concurrently
+     */
+    @Transactional
+    public AddressResponse upsertAddressForEmployee(int employeeId, AddressRequest addressRequest,
+            Integer expectedAddressId, Long expectedVersion) {
+        AddressEntity addressEntity = addressRepo.findByEmployeeId(employeeId).orElse(null);
+        if (addressEntity != null) {
+            // The address read was deleted and another created since, possibly at the same version
+            if (expectedAddressId != null && addressEntity.getAddressId() != expectedAddressId) {
+                throw new ObjectOptimisticLockingFailureException(AddressEntity.class, addressEntity.getAddressId());
+            }
+            checkVersion(addressEntity, expectedVersion);
+            addressMapper.copyToEntity(addressRequest, addressEntity);
+        } else if (expectedVersion != null) {
+            throw new ObjectOptimisticLockingFailureException(AddressEntity.class, "employee " + employeeId);
+        } else {
+            addressEntity = addressMapper.toEntity(addressRequest);
+            addressEntity.setEmployeeId(employeeId);
+        }
+        // Flushed here so a duplicate insert fails inside the repository call, as a DataIntegrityViolationException
+        AddressEntity savedEntity = addressRepo.saveAndFlush(addressEntity);
+        recordWrite(savedEntity);
+        return addressMapper.toResponse(savedEntity);
     }
 
-    // Delete
+    /**
+     * Partial update from a JSON Merge Patch; only the patched columns are written (see AddressEntity's @DynamicUpdate)
+     * @param patch Merge patch of the address fields, as for AddressMapper.applyPatch
+     * @param expectedVersion Version the caller read (If-Match), or null to patch whatever is current
+     * @return Updated address, or null if there is no such address
+     * @throws IllegalArgumentException if the patch is not valid for an address; nothing is written
+     * @throws org.springframework.dao.OptimisticLockingFailureException as for updateAddress
+     */
+    @Transactional
+    public AddressResponse patchAddress(int id, JsonNode patch, Long expectedVersion) {
+        AddressEntity addressEntity = addressRepo.findById(id).orElse(null);
+        if (addressEntity == null) {
+            return null;
+        }
+        checkVersion(addressEntity, expectedVersion);
+
+        addressMapper.applyPatch(patch, addressEntity);
+
+        AddressEntity updatedEntity = addressRepo.saveAndFlush(addressEntity);
+        recordWrite(updatedEntity);
+        return addressMapper.toResponse(updatedEntity);
+    }
+
+    // Checked against the loaded copy first, so a stale If-Match is refused before any UPDATE is sent
+    private static void checkVersion(AddressEntity addressEntity, Long expectedVersion) {
+        if (expectedVersion != null && addressEntity.getVersion() != expectedVersion) {
+            throw new ObjectOptimisticLockingFailureException(AddressEntity.class, addressEntity.getAddressId());
+        }
+    }
+
+    // Delete (the lookup is served by the second-level cache, so only the DELETE reaches the DB)
+    @Transactional
     public boolean deleteAddress(int id) {
-        if (addressRepo.existsById(id)) {
-            addressRepo.deleteById(id);
-            return true;
+        AddressEntity addressEntity = addressRepo.findById(id).orElse(null);
+        if (addressEntity == null) {
+            return false;
+        }
+        addressRepo.delete(addressEntity);
+        recordWrite(addressEntity);
+        return true;
+    }
+
+    // Delete - many with one DELETE ... WHERE address_id IN (...) per chunk; the linked employees are looked up
+    // first so reads by employee are pinned to the primary too
+    @Transactional
+    public void deleteAddresses(List<Integer> ids) {
+        List<EmployeeKey> employees = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += BULK_CHUNK_SIZE) {
+            List<Integer> chunk = ids.subList(from, Math.min(from + BULK_CHUNK_SIZE, ids.size()));
+            addressRepo.findEmployeeIdsByAddressIdIn(chunk).forEach(employeeId -> employees.add(new EmployeeKey(employeeId)));
+            addressRepo.deleteAllByIdInBatch(chunk);
+        }
+        recentWrites.recordAll(ids);
+        recentWrites.recordAll(employees);
+    }
+
+    // Delete by employee; false when the employee has no address
+    @Transactional
+    public boolean deleteAddressForEmployee(int employeeId) {
+        AddressEntity addressEntity = addressRepo.findByEmployeeId(employeeId).orElse(null);
+        if (addressEntity == null) {
+            return false;
+        }
+        addressRepo.delete(addressEntity);
+        recordWrite(addressEntity);
+        return true;
+    }
+
+    // Delete - many by employee with one DELETE ... WHERE employee_id IN (...) per chunk
+    @Transactional
+    public void deleteAddressesForEmployees(List<Integer> employeeIds) {
+        for (int from = 0; from < employeeIds.size(); from += BULK_CHUNK_SIZE) {
+            addressRepo.deleteByEmployeeIdIn(employeeIds.subList(from, Math.min(from + BULK_CHUNK_SIZE, employeeIds.size())));
+        }
+        recentWrites.recordAll(employeeIds.stream().map(EmployeeKey::new).collect(Collectors.toList()));
+    }
+
+    // Reads of this row by address id, or by its employee, go to the primary for the read-your-writes window
+    private void recordWrite(AddressEntity addressEntity) {
+        recentWrites.record(addressEntity.getAddressId());
+        if (addressEntity.getEmployeeId() != null) {
+            recentWrites.record(new EmployeeKey(addressEntity.getEmployeeId()));
         }
-        return false;
     }
 
 }
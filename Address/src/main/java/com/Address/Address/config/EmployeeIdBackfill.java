@@ -0,0 +1,71 @@
+package com.Address.Address.config;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.autoconfigure.orm.jpa.EntityManagerFactoryDependsOnPostProcessor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Links the addresses written before the employee_id column existed to their employees.
+ * Until then an employee's address was stored under address_id = employee id, so when the column is
+ * missing it is added here and filled from address_id; Hibernate's schema update then adds the unique index.
+ * Once the column exists this does nothing, so addresses created later without an employee stay unlinked.
+ */
+@Component
+public class EmployeeIdBackfill implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(EmployeeIdBackfill.class);
+
+    private static final String TABLE = "address";
+    private static final String COLUMN = "employee_id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public EmployeeIdBackfill(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        if (!tableExists() || columnExists()) {
+            return;
+        }
+        jdbcTemplate.execute("ALTER TABLE " + TABLE + " ADD COLUMN " + COLUMN + " INT");
+        int linked = jdbcTemplate.update("UPDATE " + TABLE + " SET " + COLUMN + " = address_id");
+        log.info("Linked {} existing addresses to the employee with the same id", linked);
+    }
+
+    private boolean tableExists() {
+        Boolean exists = jdbcTemplate.execute((Connection connection) -> {
+            try (ResultSet tables = connection.getMetaData()
+                    .getTables(connection.getCatalog(), null, TABLE, new String[] { "TABLE" })) {
+                return tables.next();
+            }
+        });
+        return Boolean.TRUE.equals(exists);
+    }
+
+    private boolean columnExists() {
+        Boolean exists = jdbcTemplate.execute((Connection connection) -> {
+            try (ResultSet columns = connection.getMetaData()
+                    .getColumns(connection.getCatalog(), null, TABLE, COLUMN)) {
+                return columns.next();
+            }
+        });
+        return Boolean.TRUE.equals(exists);
+    }
+
+    // Runs the backfill before the EntityManagerFactory, and with it Hibernate's schema update, starts
+    @Component
+    static class BeforeEntityManagerFactory extends EntityManagerFactoryDependsOnPostProcessor {
+
+        BeforeEntityManagerFactory() {
+            super(EmployeeIdBackfill.class);
+        }
+    }
+}
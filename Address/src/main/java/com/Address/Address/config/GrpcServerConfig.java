@@ -0,0 +1,50 @@
+package com.Address.Address.config;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.Address.Address.AddressService.AddressService;
+import com.Address.Address.grpc.AddressGrpcService;
+import com.Address.Address.mapper.AddressMapper;
+
+import io.grpc.Grpc;
+import io.grpc.InsecureServerCredentials;
+import io.grpc.Server;
+import io.micrometer.core.instrument.binder.grpc.ObservationGrpcServerInterceptor;
+import io.micrometer.observation.ObservationRegistry;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Serves AddressGrpcService on address.grpc.port alongside the REST API when address.grpc.enabled=true.
+ * Calls are timed as grpc.server and join the trace the Employee service sends in their metadata.
+ */
+@Configuration
+@ConditionalOnProperty(name = "address.grpc.enabled", havingValue = "true")
+@EnableConfigurationProperties(GrpcServerProperties.class)
+public class GrpcServerConfig {
+
+    // Calls block on JPA, so each gets its own virtual thread, like the servlet requests.
+    // Not a bean: any Executor bean would make Boot skip applicationTaskExecutor, which MVC async requests use.
+    private final ExecutorService grpcExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    @Bean(initMethod = "start", destroyMethod = "shutdown")
+    public Server addressGrpcServer(GrpcServerProperties properties,
+            AddressService addressService, AddressMapper addressMapper, ObservationRegistry observationRegistry) {
+        return Grpc.newServerBuilderForPort(properties.getPort(), InsecureServerCredentials.create())
+                .executor(grpcExecutor)
+                .intercept(new ObservationGrpcServerInterceptor(observationRegistry))
+                .addService(new AddressGrpcService(addressService, addressMapper))
+                .build();
+    }
+
+    // Runs after the server bean is destroyed, so in-flight calls finish first
+    @PreDestroy
+    public void closeExecutor() {
+        grpcExecutor.close();
+    }
+}
@@ -0,0 +1,29 @@
+package com.Address.Address.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings for the optional gRPC endpoint, bound from the address.grpc.* properties.
+ */
+@ConfigurationProperties(prefix = "address.grpc")
+public class GrpcServerProperties {
+
+    private boolean enabled = false;
+    private int port = 9090;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getPort() {
+        return port;
+    }
+
+    public void setPort(int port) {
+        this.port = port;
+    }
+}
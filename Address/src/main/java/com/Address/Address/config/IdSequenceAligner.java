@@ -0,0 +1,55 @@
+package com.Address.Address.config;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.Address.Address.AddressEntity.AddressEntity;
+
+/**
+ * Moves address_seq past the existing address ids before the app takes traffic.
+ * Rows written under the old IDENTITY column would otherwise collide with the
+ * first ids the pooled sequence hands out. MySQL has no sequences, so Hibernate
+ * backs address_seq with a one-row table; databases with real sequences are left alone.
+ */
+@Component
+public class IdSequenceAligner implements SmartInitializingSingleton {
+
+    private static final Logger log = LoggerFactory.getLogger(IdSequenceAligner.class);
+
+    private static final String SEQUENCE_TABLE = "address_seq";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public IdSequenceAligner(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!isTableBacked()) {
+            return;
+        }
+        // The pooled optimizer hands out (next_val - allocationSize, next_val], so leave a full block of headroom
+        int updated = jdbcTemplate.update("UPDATE " + SEQUENCE_TABLE + " SET next_val = GREATEST(next_val, "
+                + "(SELECT COALESCE(MAX(address_id), 0) + ? FROM address))", AddressEntity.ID_ALLOCATION_SIZE);
+        if (updated == 0) {
+            log.warn("No row in {} to align with existing address ids", SEQUENCE_TABLE);
+        }
+    }
+
+    private boolean isTableBacked() {
+        Boolean exists = jdbcTemplate.execute((Connection connection) -> {
+            try (ResultSet tables = connection.getMetaData()
+                    .getTables(connection.getCatalog(), null, SEQUENCE_TABLE, new String[] { "TABLE" })) {
+                return tables.next();
+            }
+        });
+        return Boolean.TRUE.equals(exists);
+    }
+}
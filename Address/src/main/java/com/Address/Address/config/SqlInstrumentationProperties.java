@@ -0,0 +1,43 @@
+package com.Address.Address.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Thresholds for the SQL instrumentation around the DataSource, bound from the address.sql.* properties.
+ */
+@ConfigurationProperties(prefix = "address.sql")
+public class SqlInstrumentationProperties {
+
+    // Statements slower than this are logged (off the request thread) and counted in jdbc.statements.slow
+    private Duration slowQueryThreshold = Duration.ofMillis(200);
+    // The same parameterized SELECT run this many times in one request is reported as a likely N+1
+    private int repeatedSelectThreshold = 5;
+    // Slow-query log lines waiting to be written; further ones are dropped rather than blocking queries
+    private int slowQueryLogQueueSize = 1000;
+
+    public Duration getSlowQueryThreshold() {
+        return slowQueryThreshold;
+    }
+
+    public void setSlowQueryThreshold(Duration slowQueryThreshold) {
+        this.slowQueryThreshold = slowQueryThreshold;
+    }
+
+    public int getRepeatedSelectThreshold() {
+        return repeatedSelectThreshold;
+    }
+
+    public void setRepeatedSelectThreshold(int repeatedSelectThreshold) {
+        this.repeatedSelectThreshold = repeatedSelectThreshold;
+    }
+
+    public int getSlowQueryLogQueueSize() {
+        return slowQueryLogQueueSize;
+    }
+
+    public void setSlowQueryLogQueueSize(int slowQueryLogQueueSize) {
+        this.slowQueryLogQueueSize = slowQueryLogQueueSize;
+    }
+}
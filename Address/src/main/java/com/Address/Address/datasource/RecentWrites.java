@@ -0,0 +1,54 @@
+package com.Address.Address.datasource;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.function.Supplier;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Read-your-writes for the replica: keys this instance wrote within the window are read from the primary,
+ * so a caller never gets back an older row than the one it just saved. Keys are compared with equals, so
+ * lookups by different ids (address, employee) need distinct key types. Other instances' writes are not
+ * tracked; a zero window turns this off.
+ */
+public class RecentWrites {
+
+    // Far more than are written within any sensible window; the oldest go first if it is ever reached
+    private static final long MAX_TRACKED_KEYS = 100_000;
+
+    private final Cache<Object, Boolean> keys;
+
+    public RecentWrites(Duration window) {
+        this.keys = window.isZero() ? null : Caffeine.newBuilder()
+                .expireAfterWrite(window)
+                .maximumSize(MAX_TRACKED_KEYS)
+                .build();
+    }
+
+    public void record(Object key) {
+        if (keys != null) {
+            keys.put(key, Boolean.TRUE);
+        }
+    }
+
+    public void recordAll(Collection<?> written) {
+        if (keys != null) {
+            written.forEach(key -> keys.put(key, Boolean.TRUE));
+        }
+    }
+
+    /**
+     * Run a read of one key, on the primary if this instance wrote that key within the window
+     * @param key The id (or other key) being read
+     * @param read The read to run
+     * @return Its result
+     */
+    public <T> T read(Object key, Supplier<T> read) {
+        if (keys == null || keys.getIfPresent(key) == null) {
+            return read.get();
+        }
+        return ReplicaRoutingDataSource.onPrimary(read);
+    }
+}
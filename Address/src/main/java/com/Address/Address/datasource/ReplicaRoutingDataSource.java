@@ -0,0 +1,63 @@
+package com.Address.Address.datasource;
+
+import java.util.Map;
+import java.util.function.Supplier;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Sends statements in read-only transactions to the replica pool and everything else to the primary.
+ * That covers the @Transactional(readOnly = true) service reads and the built-in repository reads
+ * (findById, findAll, ...), which Spring Data runs read-only when no write transaction is open.
+ * Must sit behind a LazyConnectionDataSourceProxy: the
+ * transaction manager opens its connection before the read-only flag is published, and the lazy proxy
+ * defers the choice until the first statement.
+ * <p>
+ * Entities read from the replica enter the second-level cache like any other load, and that staleness is
+ * accepted: the cache is per instance, so it already trails other instances' writes by up to its 30m expiry
+ * (see application.conf), and a replica load adds at most the replication lag. READ_WRITE caching never
+ * replaces a newer cached version with an older load, and rows this instance wrote are read from the
+ * primary while RecentWrites holds them, so a replica load cannot undo this instance's own recent write.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Route { PRIMARY, REPLICA }
+
+    private static final ThreadLocal<Boolean> PRIMARY_PINNED = new ThreadLocal<>();
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica) {
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+    }
+
+    /**
+     * Run a read on the primary even inside a read-only transaction, e.g. right after this instance wrote
+     * the row and the replica may not have it yet. Only takes effect before the transaction's first statement.
+     * @param read The read to run
+     * @return Its result
+     */
+    public static <T> T onPrimary(Supplier<T> read) {
+        Boolean previous = PRIMARY_PINNED.get();
+        PRIMARY_PINNED.set(Boolean.TRUE);
+        try {
+            return read.get();
+        } finally {
+            if (previous == null) {
+                PRIMARY_PINNED.remove();
+            } else {
+                PRIMARY_PINNED.set(previous);
+            }
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly() && PRIMARY_PINNED.get() == null) {
+            return Route.REPLICA;
+        }
+        return Route.PRIMARY;
+    }
+}
@@ -0,0 +1,141 @@
+package com.Address.Address.grpc;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import com.Address.Address.AddressService.AddressService;
+import com.Address.Address.mapper.AddressMapper;
+import com.Address.AddressRequest;
+import com.Address.AddressResponse;
+import com.Address.grpc.Address;
+import com.Address.grpc.AddressServiceGrpc;
+import com.Address.grpc.Addresses;
+import com.Address.grpc.DeleteAddressesResponse;
+import com.Address.grpc.EmployeeId;
+import com.Address.grpc.EmployeeIds;
+import com.Address.grpc.UpsertAddressRequest;
+
+import io.grpc.Status;
+import io.grpc.stub.StreamObserver;
+
+/**
+ * gRPC face of the Address service (src/main/proto/address.proto).
+ * Same operations and semantics as the /address/employee/** REST endpoints the Employee service calls,
+ * over HTTP/2 with Protobuf bodies.
+ */
+public class AddressGrpcService extends AddressServiceGrpc.AddressServiceImplBase {
+
+    private static final Logger log = LoggerFactory.getLogger(AddressGrpcService.class);
+
+    private final AddressService addressService;
+    private final AddressMapper addressMapper;
+
+    public AddressGrpcService(AddressService addressService, AddressMapper addressMapper) {
+        this.addressService = addressService;
+        this.addressMapper = addressMapper;
+    }
+
+    @Override
+    public void getAddress(EmployeeId request, StreamObserver<Address> responseObserver) {
+        try {
+            AddressResponse address = addressService.getAddressByEmployeeId(request.getEmployeeId());
+            if (address == null) {
+                responseObserver.onError(Status.NOT_FOUND
+                        .withDescription("No address for employee " + request.getEmployeeId())
+                        .asRuntimeException());
+                return;
+            }
+            responseObserver.onNext(addressMapper.toMessage(address));
+            responseObserver.onCompleted();
+        } catch (RuntimeException e) {
+            fail(responseObserver, "getting address of employee " + request.getEmployeeId(), e);
+        }
+    }
+
+    // Answers every batch as it arrives, so the caller can keep sending while earlier batches are served
+    @Override
+    public StreamObserver<EmployeeIds> getAddresses(StreamObserver<Addresses> responseObserver) {
+        return new StreamObserver<>() {
+            private boolean failed;
+
+            @Override
+            public void onNext(EmployeeIds request) {
+                if (failed) {
+                    return;
+                }
+                try {
+                    Addresses.Builder batch = Addresses.newBuilder();
+                    if (request.getEmployeeIdsCount() > 0) {
+                        addressService.getAddressesByEmployeeIds(request.getEmployeeIdsList())
+                                .forEach(address -> batch.addAddresses(addressMapper.toMessage(address)));
+                    }
+                    responseObserver.onNext(batch.build());
+                } catch (RuntimeException e) {
+                    failed = true;
+                    fail(responseObserver, "getting addresses", e);
+                }
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                // Caller cancelled or its deadline passed; nothing left to answer
+            }
+
+            @Override
+            public void onCompleted() {
+                if (!failed) {
+                    responseObserver.onCompleted();
+                }
+            }
+        };
+    }
+
+    @Override
+    public void upsertAddress(UpsertAddressRequest request, StreamObserver<Address> responseObserver) {
+        try {
+            AddressRequest addressRequest = addressMapper.toRequest(request);
+            AddressResponse address;
+            try {
+                address = addressService.upsertAddressForEmployee(request.getEmployeeId(), addressRequest, null, null);
+            } catch (DataIntegrityViolationException e) {
+                // A concurrent upsert created the employee's address first - this one becomes an update
+                address = addressService.upsertAddressForEmployee(request.getEmployeeId(), addressRequest, null, null);
+            }
+            responseObserver.onNext(addressMapper.toMessage(address));
+            responseObserver.onCompleted();
+        } catch (OptimisticLockingFailureException e) {
+            // Another update committed in between; ABORTED tells the caller to retry the whole call
+            responseObserver.onError(Status.ABORTED
+                    .withDescription("Address of employee " + request.getEmployeeId() + " was updated concurrently")
+                    .asRuntimeException());
+        } catch (RuntimeException e) {
+            fail(responseObserver, "upserting address of employee " + request.getEmployeeId(), e);
+        }
+    }
+
+    @Override
+    public void deleteAddresses(EmployeeIds request, StreamObserver<DeleteAddressesResponse> responseObserver) {
+        try {
+            List<Integer> employeeIds = request.getEmployeeIdsList();
+            if (!employeeIds.isEmpty()) {
+                addressService.deleteAddressesForEmployees(employeeIds);
+            }
+            responseObserver.onNext(DeleteAddressesResponse.getDefaultInstance());
+            responseObserver.onCompleted();
+        } catch (RuntimeException e) {
+            fail(responseObserver, "deleting the addresses of " + request.getEmployeeIdsCount() + " employees", e);
+        }
+    }
+
+    private static void fail(StreamObserver<?> responseObserver, String action, RuntimeException e) {
+        log.error("Failed {}", action, e);
+        responseObserver.onError(Status.INTERNAL
+                .withDescription(e.getMessage())
+                .withCause(e)
+                .asRuntimeException());
+    }
+}
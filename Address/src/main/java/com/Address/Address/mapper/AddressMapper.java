@@ -0,0 +1,119 @@
+package com.Address.Address.mapper;
+
+import java.util.Map;
+
+import org.springframework.stereotype.Component;
+
+import com.Address.Address.AddressEntity.AddressEntity;
+import com.Address.AddressRequest;
+import com.Address.AddressResponse;
+import com.Address.grpc.Address;
+import com.Address.grpc.UpsertAddressRequest;
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Plain field-by-field mapping between the Address entity and its DTOs.
+ * Written out by hand so the request path does no reflection or type-map lookups.
+ */
+@Component
+public class AddressMapper {
+
+    public AddressEntity toEntity(AddressRequest addressRequest) {
+        AddressEntity addressEntity = new AddressEntity();
+        addressEntity.setEmployeeId(addressRequest.getEmployeeId());
+        copyToEntity(addressRequest, addressEntity);
+        return addressEntity;
+    }
+
+    // Copies the updatable fields from the request onto an existing entity (the employee link is set on create only)
+    public void copyToEntity(AddressRequest addressRequest, AddressEntity addressEntity) {
+        addressEntity.setLane_1(addressRequest.getLane_1());
+        addressEntity.setLane_2(addressRequest.getLane_2());
+        addressEntity.setState(addressRequest.getState());
+        addressEntity.setZip(addressRequest.getZip());
+    }
+
+    /**
+     * Applies a JSON Merge Patch (RFC 7396) to an existing entity: members present are set, null clears,
+     * and absent members are left alone, so only the columns sent end up dirty
+     * @throws IllegalArgumentException on a member that is not an updatable field or has the wrong type,
+     *         and on clearing the zip
+     */
+    public void applyPatch(JsonNode patch, AddressEntity addressEntity) {
+        if (!patch.isObject()) {
+            throw new IllegalArgumentException("A merge patch must be a JSON object");
+        }
+        for (Map.Entry<String, JsonNode> member : patch.properties()) {
+            switch (member.getKey()) {
+                case "lane_1" -> addressEntity.setLane_1(text(member));
+                case "lane_2" -> addressEntity.setLane_2(text(member));
+                case "state" -> addressEntity.setState(text(member));
+                case "zip" -> addressEntity.setZip(integer(member));
+                default -> throw new IllegalArgumentException(
+                        "Field '" + member.getKey() + "' cannot be patched, expected any of lane_1, lane_2, state, zip");
+            }
+        }
+    }
+
+    public AddressResponse toResponse(AddressEntity addressEntity) {
+        AddressResponse addressResponse = new AddressResponse();
+        addressResponse.setAddressId(addressEntity.getAddressId());
+        addressResponse.setEmployeeId(addressEntity.getEmployeeId());
+        addressResponse.setLane_1(addressEntity.getLane_1());
+        addressResponse.setLane_2(addressEntity.getLane_2());
+        addressResponse.setState(addressEntity.getState());
+        addressResponse.setZip(addressEntity.getZip());
+        addressResponse.setVersion(addressEntity.getVersion());
+        return addressResponse;
+    }
+
+    // Protobuf messages for the gRPC endpoint; absent optional strings stand for null
+
+    public Address toMessage(AddressResponse addressResponse) {
+        Address.Builder address = Address.newBuilder()
+                .setAddressId(addressResponse.getAddressId())
+                .setZip(addressResponse.getZip())
+                .setVersion(addressResponse.getVersion());
+        if (addressResponse.getEmployeeId() != null) {
+            address.setEmployeeId(addressResponse.getEmployeeId());
+        }
+        if (addressResponse.getLane_1() != null) {
+            address.setLane1(addressResponse.getLane_1());
+        }
+        if (addressResponse.getLane_2() != null) {
+            address.setLane2(addressResponse.getLane_2());
+        }
+        if (addressResponse.getState() != null) {
+            address.setState(addressResponse.getState());
+        }
+        return address.build();
+    }
+
+    public AddressRequest toRequest(UpsertAddressRequest upsertAddressRequest) {
+        AddressRequest addressRequest = new AddressRequest();
+        addressRequest.setLane_1(upsertAddressRequest.hasLane1() ? upsertAddressRequest.getLane1() : null);
+        addressRequest.setLane_2(upsertAddressRequest.hasLane2() ? upsertAddressRequest.getLane2() : null);
+        addressRequest.setState(upsertAddressRequest.hasState() ? upsertAddressRequest.getState() : null);
+        addressRequest.setZip(upsertAddressRequest.getZip());
+        return addressRequest;
+    }
+
+    private static String text(Map.Entry<String, JsonNode> member) {
+        JsonNode value = member.getValue();
+        if (value.isNull()) {
+            return null;
+        }
+        if (!value.isTextual()) {
+            throw new IllegalArgumentException("Field '" + member.getKey() + "' must be a string");
+        }
+        return value.textValue();
+    }
+
+    private static int integer(Map.Entry<String, JsonNode> member) {
+        JsonNode value = member.getValue();
+        if (!value.isIntegralNumber() || !value.canConvertToInt()) {
+            throw new IllegalArgumentException("Field '" + member.getKey() + "' must be an integer");
+        }
+        return value.intValue();
+    }
+}
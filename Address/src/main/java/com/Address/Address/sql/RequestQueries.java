@@ -0,0 +1,71 @@
+package com.Address.Address.sql;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * The SELECTs one request ran on its own thread, kept so the request can be checked for
+ * N+1 loops (one statement repeated with different arguments) and for redundant reads
+ * (the same row of a table fetched again, e.g. existsById then deleteById, or findById then save of a detached entity).
+ * Only parameterized SELECTs are kept; sequence fetches and other constant statements are ignored.
+ */
+final class RequestQueries {
+
+    private static final ThreadLocal<RequestQueries> CURRENT = new ThreadLocal<>();
+    private static final Pattern FROM_TABLE = Pattern.compile("\\bfrom\\s+([\\w.]+)", Pattern.CASE_INSENSITIVE);
+
+    private final Map<String, Integer> executions = new LinkedHashMap<>();
+    private final Map<String, String> rowReads = new HashMap<>();
+    private final List<String> redundantReads = new ArrayList<>();
+
+    private RequestQueries() {
+    }
+
+    static RequestQueries open() {
+        RequestQueries queries = new RequestQueries();
+        CURRENT.set(queries);
+        return queries;
+    }
+
+    static void close() {
+        CURRENT.remove();
+    }
+
+    // No-op outside a request (scheduled jobs, startup)
+    static void recordSelect(String sql, List<Object> arguments) {
+        RequestQueries queries = CURRENT.get();
+        if (queries == null || arguments.isEmpty()) {
+            return;
+        }
+        queries.executions.merge(sql, 1, Integer::sum);
+        Matcher table = FROM_TABLE.matcher(sql);
+        if (table.find()) {
+            String row = table.group(1).toLowerCase(Locale.ROOT) + arguments;
+            String firstRead = queries.rowReads.putIfAbsent(row, sql);
+            if (firstRead != null) {
+                queries.redundantReads.add(row + " read by [" + firstRead + "] then again by [" + sql + "]");
+            }
+        }
+    }
+
+    // Statements run at least threshold times, with their counts
+    Map<String, Integer> repeatedAtLeast(int threshold) {
+        Map<String, Integer> repeated = new LinkedHashMap<>();
+        executions.forEach((sql, count) -> {
+            if (count >= threshold) {
+                repeated.put(sql, count);
+            }
+        });
+        return repeated;
+    }
+
+    List<String> redundantReads() {
+        return redundantReads;
+    }
+}
@@ -0,0 +1,122 @@
+package com.Address.Address.sql;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.QueryType;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryUtils;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+
+/**
+ * Times every JDBC execution into jdbc.statements (tagged by pool, statement type and outcome),
+ * hands statements over the slow-query threshold to a background logger, and feeds
+ * parameterized SELECTs to the current request's RequestQueries.
+ * The slow-query log is one daemon thread with a bounded queue, so a burst of slow queries drops
+ * log lines instead of stalling the requests that ran them.
+ */
+public class SqlStatementListener implements QueryExecutionListener, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(SqlStatementListener.class);
+    private static final String START = SqlStatementListener.class.getName() + ".start";
+
+    private final MeterRegistry meterRegistry;
+    private final long slowQueryNanos;
+    private final ThreadPoolExecutor slowQueryLog;
+    private final Counter slowQueries;
+
+    public SqlStatementListener(MeterRegistry meterRegistry, long slowQueryNanos, int slowQueryLogQueueSize) {
+        this.meterRegistry = meterRegistry;
+        this.slowQueryNanos = slowQueryNanos;
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("slow-query-log-");
+        threadFactory.setDaemon(true);
+        this.slowQueryLog = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(slowQueryLogQueueSize), threadFactory, new ThreadPoolExecutor.DiscardPolicy());
+        this.slowQueries = Counter.builder("jdbc.statements.slow")
+                .description("Statements slower than the slow-query threshold")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        execInfo.addCustomValue(START, System.nanoTime());
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        Long start = execInfo.getCustomValue(START, Long.class);
+        long elapsed = start != null ? System.nanoTime() - start : TimeUnit.MILLISECONDS.toNanos(execInfo.getElapsedTime());
+        String sql = queryInfoList.isEmpty() ? "" : queryInfoList.get(0).getQuery();
+        QueryType type = QueryUtils.getQueryType(sql);
+
+        Timer.builder("jdbc.statements")
+                .description("JDBC statement and batch executions")
+                .tag("datasource", String.valueOf(execInfo.getDataSourceName()))
+                .tag("type", type.name())
+                .tag("batch", String.valueOf(execInfo.isBatch()))
+                .tag("outcome", execInfo.isSuccess() ? "SUCCESS" : "ERROR")
+                .register(meterRegistry)
+                .record(elapsed, TimeUnit.NANOSECONDS);
+
+        if (elapsed >= slowQueryNanos) {
+            slowQueries.increment();
+            logSlow(elapsed, queryInfoList);
+        }
+        if (type == QueryType.SELECT && execInfo.isSuccess()) {
+            for (QueryInfo queryInfo : queryInfoList) {
+                for (List<ParameterSetOperation> parameters : queryInfo.getParametersList()) {
+                    RequestQueries.recordSelect(queryInfo.getQuery(), arguments(parameters));
+                }
+            }
+        }
+    }
+
+    // Formatting and writing happen on the log thread; the request's MDC (trace ids) goes with it
+    private void logSlow(long elapsed, List<QueryInfo> queryInfoList) {
+        Map<String, String> context = MDC.getCopyOfContextMap();
+        List<String> statements = queryInfoList.stream().map(QueryInfo::getQuery).toList();
+        slowQueryLog.execute(() -> {
+            if (context != null) {
+                MDC.setContextMap(context);
+            }
+            try {
+                log.warn("Slow query ({} ms): {}", TimeUnit.NANOSECONDS.toMillis(elapsed), String.join("; ", statements));
+            } finally {
+                MDC.clear();
+            }
+        });
+    }
+
+    @Override
+    public void close() {
+        slowQueryLog.shutdown();
+    }
+
+    // Bound values in parameter-index order
+    private static List<Object> arguments(List<ParameterSetOperation> parameters) {
+        List<ParameterSetOperation> ordered = new ArrayList<>(parameters);
+        ordered.sort(Comparator.comparingInt(parameter ->
+                parameter.getArgs()[0] instanceof Integer index ? index : Integer.MAX_VALUE));
+        List<Object> arguments = new ArrayList<>(ordered.size());
+        for (ParameterSetOperation parameter : ordered) {
+            Object[] args = parameter.getArgs();
+            arguments.add(args.length > 1 && !ParameterSetOperation.isSetNullParameterOperation(parameter) ? args[1] : null);
+        }
+        return arguments;
+    }
+}
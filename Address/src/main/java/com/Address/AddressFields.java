@@ -0,0 +1,59 @@
+package com.Address;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sparse fieldsets for the address reads: ?fields=state,zip.
+ * Field names are the JSON properties of AddressResponse, which are also the AddressEntity attribute names.
+ * The addressId and version are always included: the id so rows can be told apart and keyset paging keeps working,
+ * the version so a trimmed row can still be sent back conditionally.
+ */
+public final class AddressFields {
+
+    public static final String ID = "addressId";
+    public static final String VERSION = "version";
+    public static final List<String> ALL = List.of(ID, "employeeId", "lane_1", "lane_2", "state", "zip", VERSION);
+
+    private AddressFields() {
+    }
+
+    /**
+     * @param fields Requested field names, in any order; null when the parameter was not given
+     * @return The fields to return in AddressResponse order, always with addressId and version; null for the full response
+     * @throws IllegalArgumentException on a name that is not an AddressResponse field
+     */
+    public static List<String> parse(List<String> fields) {
+        if (fields == null) {
+            return null;
+        }
+        List<String> requested = fields.stream().map(String::strip).filter(field -> !field.isEmpty()).toList();
+        for (String field : requested) {
+            if (!ALL.contains(field)) {
+                throw new IllegalArgumentException("Unknown field '" + field + "', expected any of " + String.join(", ", ALL));
+            }
+        }
+        return ALL.stream()
+                .filter(field -> field.equals(ID) || field.equals(VERSION) || requested.contains(field))
+                .toList();
+    }
+
+    // The given fields of an already mapped address, for reads served whole from the cache
+    public static Map<String, Object> select(AddressResponse address, List<String> fields) {
+        Map<String, Object> selected = new LinkedHashMap<>();
+        for (String field : fields) {
+            selected.put(field, switch (field) {
+                case ID -> address.getAddressId();
+                case "employeeId" -> address.getEmployeeId();
+                case "lane_1" -> address.getLane_1();
+                case "lane_2" -> address.getLane_2();
+                case "state" -> address.getState();
+                case "zip" -> address.getZip();
+                case VERSION -> address.getVersion();
+                default -> throw new IllegalArgumentException("Unknown field '" + field + "'");
+            });
+        }
+        return selected;
+    }
+}
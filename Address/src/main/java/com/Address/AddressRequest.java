@@ -1,11 +1,21 @@
 package com.Address;
 
 public class AddressRequest {
+    // Optional on create: links the new address to this employee (at most one address per employee)
+    private Integer employeeId;
     private String lane_1;
     private String lane_2;
     private String state;
     private int zip;
 
+    public Integer getEmployeeId() {
+        return employeeId;
+    }
+
+    public void setEmployeeId(Integer employeeId) {
+        this.employeeId = employeeId;
+    }
+
     public String getLane_1() {
         return lane_1;
     }
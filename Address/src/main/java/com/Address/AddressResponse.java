@@ -4,15 +4,21 @@ public class AddressResponse {
 
 
     private int addressId;
+    private Integer employeeId;
     private String lane_1;
     private String lane_2;
     private String state;
     private int zip;
+    private long version;
 
     public int getAddressId() {
         return addressId;
     }
 
+    public Integer getEmployeeId() {
+        return employeeId;
+    }
+
     public String getLane_1() {
         return lane_1;
     }
@@ -29,10 +35,18 @@ public class AddressResponse {
         return zip;
     }
 
+    public long getVersion() {
+        return version;
+    }
+
     public void setAddressId(int addressId) {
         this.addressId = addressId;
     }
 
+    public void setEmployeeId(Integer employeeId) {
+        this.employeeId = employeeId;
+    }
+
     public void setLane_1(String lane_1) {
         this.lane_1 = lane_1;
     }
@@ -49,6 +63,10 @@ public class AddressResponse {
         this.zip = zip;
     }
 
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
 
 
     
@@ -0,0 +1,76 @@
+package com.Address.Address;
+
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import com.Address.Address.AddressService.AddressService;
+import com.Address.AddressRequest;
+
+// Built and run only with mvn -Preactive
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles({ "reactive", "test" })
+class ReactiveAddressTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private AddressService addressService;
+
+    @Test
+    void addressWrittenThroughJpaIsReadBackOverR2dbc() throws Exception {
+        int id = addressService.createAddress(addressRequest("1 Reactive Road")).getAddressId();
+
+        MvcResult started = mockMvc.perform(get("/reactive/address/" + id))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.addressId").value(id))
+                .andExpect(jsonPath("$.lane_1").value("1 Reactive Road"));
+    }
+
+    @Test
+    void missingAddressIsNotFound() throws Exception {
+        MvcResult started = mockMvc.perform(get("/reactive/address/2147483000")).andReturn();
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void batchReturnsOnlyTheAddressesFound() throws Exception {
+        int first = addressService.createAddress(addressRequest("2 Reactive Road")).getAddressId();
+        int second = addressService.createAddress(addressRequest("3 Reactive Road")).getAddressId();
+
+        MvcResult started = mockMvc.perform(post("/reactive/address/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[" + first + "," + second + ",2147483000]"))
+                .andReturn();
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].addressId").value(containsInAnyOrder(first, second)));
+    }
+
+    private static AddressRequest addressRequest(String lane1) {
+        AddressRequest addressRequest = new AddressRequest();
+        addressRequest.setLane_1(lane1);
+        addressRequest.setState("Kerala");
+        addressRequest.setZip(680001);
+        return addressRequest;
+    }
+}
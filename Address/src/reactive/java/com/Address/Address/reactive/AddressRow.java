@@ -0,0 +1,33 @@
+package com.Address.Address.reactive;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import com.Address.AddressResponse;
+
+/**
+ * Read-only R2DBC view of the address table (the JPA AddressEntity stays the source of writes).
+ */
+@Table("address")
+public record AddressRow(
+        @Id @Column("address_id") int addressId,
+        @Column("employee_id") Integer employeeId,
+        @Column("lane_1") String lane_1,
+        @Column("lane_2") String lane_2,
+        @Column("state") String state,
+        @Column("zip") int zip,
+        @Column("version") long version) {
+
+    public AddressResponse toResponse() {
+        AddressResponse addressResponse = new AddressResponse();
+        addressResponse.setAddressId(addressId);
+        addressResponse.setEmployeeId(employeeId);
+        addressResponse.setLane_1(lane_1);
+        addressResponse.setLane_2(lane_2);
+        addressResponse.setState(state);
+        addressResponse.setZip(zip);
+        addressResponse.setVersion(version);
+        return addressResponse;
+    }
+}
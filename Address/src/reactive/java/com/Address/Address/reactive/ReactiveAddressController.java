@@ -0,0 +1,81 @@
+package com.Address.Address.reactive;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.Address.AddressResponse;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive read endpoints, same shape as AddressController under /reactive.
+ * Spring MVC subscribes to the Mono/Flux and frees the request thread until data arrives.
+ */
+@RestController
+@Profile("reactive")
+@RequestMapping("/reactive")
+public class ReactiveAddressController {
+
+    private static final int MAX_PAGE_SIZE = 1000;
+    private static final String NDJSON = "application/x-ndjson";
+
+    @Autowired
+    private ReactiveAddressService addressService;
+
+    // Read - Get by ID
+    @GetMapping("/address/{id}")
+    public Mono<ResponseEntity<AddressResponse>> getAddressById(@PathVariable("id") int id) {
+        return addressService.getAddressById(id)
+                .map(address -> ResponseEntity.status(HttpStatus.OK).body(address))
+                .defaultIfEmpty(ResponseEntity.status(HttpStatus.NOT_FOUND).build());
+    }
+
+    // Read - Get All as newline-delimited JSON (keyset paged when limit is given: ?limit=100&after=<last id>)
+    @GetMapping(value = "/address", produces = NDJSON)
+    public Flux<AddressResponse> getAllAddresses(
+            @RequestParam(value = "limit", required = false) Integer limit,
+            @RequestParam(value = "after", defaultValue = "0") int after) {
+        if (limit == null) {
+            return addressService.getAllAddresses();
+        }
+        return addressService.getAddressesAfter(after, Math.max(1, Math.min(limit, MAX_PAGE_SIZE)));
+    }
+
+    // Batch lookup; missing IDs are simply absent
+    @PostMapping("/address/batch")
+    public Flux<AddressResponse> getAddressesByIds(@RequestBody List<Integer> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return Flux.empty();
+        }
+        return addressService.getAddressesByIds(ids);
+    }
+
+    // Read - Get the employee's address
+    @GetMapping("/address/employee/{employeeId}")
+    public Mono<ResponseEntity<AddressResponse>> getAddressByEmployeeId(@PathVariable("employeeId") int employeeId) {
+        return addressService.getAddressByEmployeeId(employeeId)
+                .map(address -> ResponseEntity.status(HttpStatus.OK).body(address))
+                .defaultIfEmpty(ResponseEntity.status(HttpStatus.NOT_FOUND).build());
+    }
+
+    // Batch lookup by employee IDs; employees without an address are simply absent
+    @PostMapping("/address/employee/batch")
+    public Flux<AddressResponse> getAddressesByEmployeeIds(@RequestBody List<Integer> employeeIds) {
+        if (employeeIds == null || employeeIds.isEmpty()) {
+            return Flux.empty();
+        }
+        return addressService.getAddressesByEmployeeIds(employeeIds);
+    }
+}
@@ -0,0 +1,28 @@
+package com.Address.Address.reactive;
+
+import java.util.Collection;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.stereotype.Repository;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking mirror of AddressRepo's read queries.
+ */
+@Repository
+public interface ReactiveAddressRepo extends R2dbcRepository<AddressRow, Integer> {
+
+    // Keyset page: next rows after the given id, walking the primary key index
+    Flux<AddressRow> findByAddressIdGreaterThanOrderByAddressIdAsc(int after, Limit limit);
+
+    // Every row in id order, emitted as the driver reads them
+    Flux<AddressRow> findAllByOrderByAddressIdAsc();
+
+    // Point lookup on the unique employee_id index
+    Mono<AddressRow> findByEmployeeId(int employeeId);
+
+    Flux<AddressRow> findByEmployeeIdIn(Collection<Integer> employeeIds);
+}
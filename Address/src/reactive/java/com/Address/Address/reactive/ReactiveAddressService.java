@@ -0,0 +1,57 @@
+package com.Address.Address.reactive;
+
+import java.util.List;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import com.Address.AddressResponse;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Read side of AddressService on R2DBC: no thread is held while waiting on MySQL.
+ */
+@Service
+@Profile("reactive")
+public class ReactiveAddressService {
+
+    private final ReactiveAddressRepo addressRepo;
+
+    public ReactiveAddressService(ReactiveAddressRepo addressRepo) {
+        this.addressRepo = addressRepo;
+    }
+
+    // Read - Get by ID; empty if not found
+    public Mono<AddressResponse> getAddressById(int id) {
+        return addressRepo.findById(id).map(AddressRow::toResponse);
+    }
+
+    // Read - Get All, emitted row by row in id order
+    public Flux<AddressResponse> getAllAddresses() {
+        return addressRepo.findAllByOrderByAddressIdAsc().map(AddressRow::toResponse);
+    }
+
+    // Read - Keyset page (rows with id greater than the cursor)
+    public Flux<AddressResponse> getAddressesAfter(int after, int limit) {
+        return addressRepo.findByAddressIdGreaterThanOrderByAddressIdAsc(after, Limit.of(limit))
+                .map(AddressRow::toResponse);
+    }
+
+    // Read - Get many by ID in a single query
+    public Flux<AddressResponse> getAddressesByIds(List<Integer> ids) {
+        return addressRepo.findAllById(ids).map(AddressRow::toResponse);
+    }
+
+    // Read - Get by employee; empty if the employee has no address
+    public Mono<AddressResponse> getAddressByEmployeeId(int employeeId) {
+        return addressRepo.findByEmployeeId(employeeId).map(AddressRow::toResponse);
+    }
+
+    // Read - Get many by employee in a single IN query
+    public Flux<AddressResponse> getAddressesByEmployeeIds(List<Integer> employeeIds) {
+        return addressRepo.findByEmployeeIdIn(employeeIds).map(AddressRow::toResponse);
+    }
+}
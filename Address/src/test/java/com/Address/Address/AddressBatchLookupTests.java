@@ -0,0 +1,99 @@
+package com.Address.Address;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.Address.Address.AddressService.AddressService;
+import com.Address.AddressRequest;
+import com.Address.AddressResponse;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class AddressBatchLookupTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private AddressService addressService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void batchByAddressIdReturnsOnlyTheAddressesFound() throws Exception {
+        int first = addressService.createAddress(addressRequest(null, "1 Batch Road")).getAddressId();
+        int second = addressService.createAddress(addressRequest(null, "2 Batch Road")).getAddressId();
+
+        mockMvc.perform(post("/address/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[" + first + "," + second + ",2147483000]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[*].addressId").value(containsInAnyOrder(first, second)));
+    }
+
+    @Test
+    void batchByEmployeeIdReturnsOnlyTheEmployeesWithAnAddress() throws Exception {
+        addressService.upsertAddressForEmployee(710001, addressRequest(null, "1 Employee Road"), null, null);
+        addressService.upsertAddressForEmployee(710002, addressRequest(null, "2 Employee Road"), null, null);
+
+        mockMvc.perform(post("/address/employee/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[710001,710002,710003]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[*].employeeId").value(containsInAnyOrder(710001, 710002)));
+    }
+
+    @Test
+    void lookupAndDeleteByManyEmployeesRunOneStatementPerChunk() {
+        List<Integer> employeeIds = new ArrayList<>();
+        for (int employeeId = 711001; employeeId <= 712200; employeeId++) {
+            employeeIds.add(employeeId);
+        }
+        for (int employeeId : List.of(711001, 711700, 712200)) {
+            addressService.upsertAddressForEmployee(employeeId, addressRequest(null, employeeId + " Chunk Road"), null, null);
+        }
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        long queries = statistics.getQueryExecutionCount();
+
+        List<AddressResponse> found = addressService.getAddressesByEmployeeIds(employeeIds);
+
+        assertThat(found).extracting(AddressResponse::getEmployeeId).containsExactlyInAnyOrder(711001, 711700, 712200);
+        assertThat(statistics.getQueryExecutionCount() - queries).isEqualTo(3);
+
+        addressService.deleteAddressesForEmployees(employeeIds);
+
+        assertThat(addressService.getAddressesByEmployeeIds(List.of(711001, 711700, 712200))).isEmpty();
+    }
+
+    private static AddressRequest addressRequest(Integer employeeId, String lane1) {
+        AddressRequest addressRequest = new AddressRequest();
+        addressRequest.setEmployeeId(employeeId);
+        addressRequest.setLane_1(lane1);
+        addressRequest.setState("Kerala");
+        addressRequest.setZip(680001);
+        return addressRequest;
+    }
+}
@@ -0,0 +1,87 @@
+package com.Address.Address;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.Address.Address.AddressService.AddressService;
+import com.Address.AddressResponse;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class AddressBulkTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private AddressService addressService;
+
+    @Test
+    void bulkCreateReturnsTheAddressesInRequestOrder() throws Exception {
+        mockMvc.perform(post("/address/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[" + address("1 Bulk Road", 680060) + "," + address("2 Bulk Road", 680061) + "]"))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$[*].zip").value(contains(680060, 680061)));
+    }
+
+    @Test
+    void bulkUpdateChangesKnownIdsAndSkipsTheRest() throws Exception {
+        int id = create().get(0).getAddressId();
+
+        mockMvc.perform(put("/address/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"" + id + "\":" + address("3 Bulk Road", 680062) + ",\"2147483000\":" + address("4 Bulk Road", 680063) + "}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].zip").value(contains(680062)));
+
+        assertThat(addressService.getAddressById(id).getZip()).isEqualTo(680062);
+    }
+
+    @Test
+    void bulkDeleteRemovesEveryListedAddress() throws Exception {
+        List<Integer> ids = create().stream().map(AddressResponse::getAddressId).toList();
+
+        mockMvc.perform(delete("/address/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(ids)))
+                .andExpect(status().isNoContent());
+
+        assertThat(addressService.getAddressesByIds(ids)).isEmpty();
+    }
+
+    private List<AddressResponse> create() throws Exception {
+        String response = mockMvc.perform(post("/address/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[" + address("5 Bulk Road", 680064) + "," + address("6 Bulk Road", 680065) + "]"))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readValue(response, new TypeReference<List<AddressResponse>>() {
+        });
+    }
+
+    private static String address(String lane1, int zip) {
+        return "{\"lane_1\":\"" + lane1 + "\",\"state\":\"Kerala\",\"zip\":" + zip + "}";
+    }
+}
@@ -0,0 +1,156 @@
+package com.Address.Address;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.Address.Address.AddressEntity.AddressEntity;
+import com.Address.Address.AddressService.AddressService;
+import com.Address.AddressRequest;
+import com.Address.AddressResponse;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class AddressConditionalRequestTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private AddressService addressService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void rowTagNamesTheAddressAndItsVersion() throws Exception {
+        AddressResponse address = addressService.upsertAddressForEmployee(750001, addressRequest(750001), null, null);
+
+        mockMvc.perform(get("/address/employee/750001"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + address.getAddressId() + "-0\""));
+        mockMvc.perform(get("/address/" + address.getAddressId()).param("fields", "zip"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG,
+                        "\"" + address.getAddressId() + "-0-addressId.zip.version\""));
+    }
+
+    @Test
+    void addressCreatedAgainAtTheSameVersionIsNotRevalidatedAgainstTheOldTag() throws Exception {
+        addressService.upsertAddressForEmployee(750002, addressRequest(750002), null, null);
+        String oldTag = mockMvc.perform(get("/address/employee/750002"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        addressService.deleteAddressForEmployee(750002);
+        AddressResponse recreated = addressService.upsertAddressForEmployee(750002, addressRequest(750003), null, null);
+        assertThat(recreated.getVersion()).isZero();
+
+        String newTag = mockMvc.perform(get("/address/employee/750002").header(HttpHeaders.IF_NONE_MATCH, oldTag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.addressId").value(recreated.getAddressId()))
+                .andExpect(jsonPath("$.zip").value(750003))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        mockMvc.perform(get("/address/employee/750002").header(HttpHeaders.IF_NONE_MATCH, newTag))
+                .andExpect(status().isNotModified());
+
+        // Nor does the old tag let a conditional write through to the new address
+        mockMvc.perform(put("/address/employee/750002")
+                .header(HttpHeaders.IF_MATCH, oldTag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(addressJson(750004)))
+                .andExpect(status().isPreconditionFailed());
+        mockMvc.perform(put("/address/employee/750002")
+                .header(HttpHeaders.IF_MATCH, newTag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(addressJson(750004)))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + recreated.getAddressId() + "-1\""));
+    }
+
+    @Test
+    void updateWithTheCurrentTagSucceedsAndAStaleTagIsRefused() throws Exception {
+        int id = addressService.createAddress(addressRequest(750007)).getAddressId();
+        String tag = mockMvc.perform(get("/address/" + id)).andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(put("/address/" + id)
+                .header(HttpHeaders.IF_MATCH, tag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(addressJson(750008)))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + id + "-1\""))
+                .andExpect(jsonPath("$.version").value(1));
+        mockMvc.perform(put("/address/" + id)
+                .header(HttpHeaders.IF_MATCH, tag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(addressJson(750009)))
+                .andExpect(status().isPreconditionFailed());
+
+        assertThat(addressService.getAddressById(id).getZip()).isEqualTo(750008);
+    }
+
+    @Test
+    void rowChangedBehindTheCachedCopyIsAConflictOrAFailedPrecondition() throws Exception {
+        int id = addressService.createAddress(addressRequest(750010)).getAddressId();
+        String tag = mockMvc.perform(get("/address/" + id)).andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        // Another instance's write: the row moves on while this instance's cached copy stays at version 0
+        jdbcTemplate.update("UPDATE address SET zip = 750011, version = version + 1 WHERE address_id = ?", id);
+
+        try {
+            mockMvc.perform(put("/address/" + id)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(addressJson(750012)))
+                    .andExpect(status().isConflict());
+            mockMvc.perform(put("/address/" + id)
+                    .header(HttpHeaders.IF_MATCH, tag)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(addressJson(750013)))
+                    .andExpect(status().isPreconditionFailed());
+        } finally {
+            entityManagerFactory.getCache().evict(AddressEntity.class, id);
+        }
+
+        assertThat(addressService.getAddressById(id).getZip()).isEqualTo(750011);
+    }
+
+    @Test
+    void anotherAddressesTagAtTheSameVersionDoesNotMatch() throws Exception {
+        AddressResponse first = addressService.createAddress(addressRequest(750005));
+        AddressResponse second = addressService.createAddress(addressRequest(750006));
+
+        mockMvc.perform(put("/address/" + second.getAddressId())
+                .header(HttpHeaders.IF_MATCH, "\"" + first.getAddressId() + "-0\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(addressJson(750006)))
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    private static String addressJson(int zip) {
+        return "{\"lane_1\":\"" + zip + " Tagged Road\",\"state\":\"Kerala\",\"zip\":" + zip + "}";
+    }
+
+    private static AddressRequest addressRequest(int zip) {
+        AddressRequest addressRequest = new AddressRequest();
+        addressRequest.setLane_1(zip + " Tagged Road");
+        addressRequest.setState("Kerala");
+        addressRequest.setZip(zip);
+        return addressRequest;
+    }
+}
@@ -0,0 +1,95 @@
+package com.Address.Address;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.Address.Address.AddressService.AddressService;
+import com.Address.AddressFields;
+import com.Address.AddressRequest;
+import com.Address.AddressResponse;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class AddressFieldsTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private AddressService addressService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void requestedFieldsComeBackInResponseOrderWithIdAndVersion() {
+        assertThat(AddressFields.parse(List.of("zip", "state "))).containsExactly("addressId", "state", "zip", "version");
+        assertThat(AddressFields.parse(null)).isNull();
+    }
+
+    @Test
+    void listingSelectsOnlyTheRequestedColumnsAndKeepsTheCursor() throws Exception {
+        List<Integer> ids = IntStream.range(0, 3)
+                .mapToObj(i -> addressService.createAddress(addressRequest(681000 + i)).getAddressId())
+                .toList();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        long loads = statistics.getEntityLoadCount();
+
+        mockMvc.perform(get("/address")
+                .param("fields", "zip")
+                .param("limit", "2")
+                .param("after", String.valueOf(ids.get(0) - 1)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].addressId").value(contains(ids.get(0), ids.get(1))))
+                .andExpect(jsonPath("$[*].zip").value(contains(681000, 681001)))
+                .andExpect(jsonPath("$[0].version").exists())
+                .andExpect(jsonPath("$[0].lane_1").doesNotExist())
+                .andExpect(jsonPath("$[0].state").doesNotExist())
+                .andExpect(header().string("X-Next-Cursor", String.valueOf(ids.get(1))));
+
+        // Tuple rows only: no address was hydrated for the trimmed listing
+        assertThat(statistics.getEntityLoadCount()).isEqualTo(loads);
+    }
+
+    @Test
+    void singleReadIsTrimmedAndUnknownFieldsAreRejected() throws Exception {
+        AddressResponse address = addressService.createAddress(addressRequest(681100));
+
+        mockMvc.perform(get("/address/" + address.getAddressId()).param("fields", "state"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.addressId").value(address.getAddressId()))
+                .andExpect(jsonPath("$.state").value("Kerala"))
+                .andExpect(jsonPath("$.zip").doesNotExist());
+        mockMvc.perform(get("/address").param("fields", "state,country"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value(containsString("country")));
+    }
+
+    private static AddressRequest addressRequest(int zip) {
+        AddressRequest addressRequest = new AddressRequest();
+        addressRequest.setLane_1(zip + " Sparse Road");
+        addressRequest.setState("Kerala");
+        addressRequest.setZip(zip);
+        return addressRequest;
+    }
+}
@@ -0,0 +1,64 @@
+package com.Address.Address;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+import com.Address.Address.AddressEntity.AddressEntity;
+import com.Address.Address.mapper.AddressMapper;
+import com.Address.AddressRequest;
+import com.Address.AddressResponse;
+
+class AddressMapperTests {
+
+    private final AddressMapper addressMapper = new AddressMapper();
+
+    @Test
+    void newEntityTakesTheEmployeeLinkAndEveryField() {
+        AddressEntity addressEntity = addressMapper.toEntity(addressRequest(12, "1 Main Road", "Kerala", 680001));
+
+        assertThat(addressEntity.getEmployeeId()).isEqualTo(12);
+        assertThat(addressEntity.getLane_1()).isEqualTo("1 Main Road");
+        assertThat(addressEntity.getLane_2()).isEqualTo("Flat 1 Main Road");
+        assertThat(addressEntity.getState()).isEqualTo("Kerala");
+        assertThat(addressEntity.getZip()).isEqualTo(680001);
+    }
+
+    @Test
+    void copyLeavesTheEmployeeLinkAlone() {
+        AddressEntity addressEntity = addressMapper.toEntity(addressRequest(12, "1 Main Road", "Kerala", 680001));
+
+        addressMapper.copyToEntity(addressRequest(99, "2 Side Street", "Goa", 403001), addressEntity);
+
+        assertThat(addressEntity.getEmployeeId()).isEqualTo(12);
+        assertThat(addressEntity.getLane_1()).isEqualTo("2 Side Street");
+        assertThat(addressEntity.getState()).isEqualTo("Goa");
+        assertThat(addressEntity.getZip()).isEqualTo(403001);
+    }
+
+    @Test
+    void responseCarriesEveryColumn() {
+        AddressEntity addressEntity = addressMapper.toEntity(addressRequest(12, "1 Main Road", "Kerala", 680001));
+        addressEntity.setAddressId(5);
+
+        AddressResponse addressResponse = addressMapper.toResponse(addressEntity);
+
+        assertThat(addressResponse.getAddressId()).isEqualTo(5);
+        assertThat(addressResponse.getEmployeeId()).isEqualTo(12);
+        assertThat(addressResponse.getLane_1()).isEqualTo("1 Main Road");
+        assertThat(addressResponse.getLane_2()).isEqualTo("Flat 1 Main Road");
+        assertThat(addressResponse.getState()).isEqualTo("Kerala");
+        assertThat(addressResponse.getZip()).isEqualTo(680001);
+        assertThat(addressResponse.getVersion()).isEqualTo(addressEntity.getVersion());
+    }
+
+    private static AddressRequest addressRequest(Integer employeeId, String lane1, String state, int zip) {
+        AddressRequest addressRequest = new AddressRequest();
+        addressRequest.setEmployeeId(employeeId);
+        addressRequest.setLane_1(lane1);
+        addressRequest.setLane_2("Flat " + lane1);
+        addressRequest.setState(state);
+        addressRequest.setZip(zip);
+        return addressRequest;
+    }
+}
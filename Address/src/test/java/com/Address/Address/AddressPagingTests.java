@@ -0,0 +1,128 @@
+package com.Address.Address;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.Address.Address.AddressEntity.AddressEntity;
+import com.Address.Address.AddressRepo.AddressRepo;
+import com.Address.Address.AddressService.AddressService;
+import com.Address.AddressRequest;
+import com.Address.AddressResponse;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class AddressPagingTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private AddressService addressService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private AddressRepo addressRepo;
+
+    @Test
+    void pagesFollowTheCursorInIdOrder() throws Exception {
+        List<Integer> ids = createAddresses(5);
+
+        mockMvc.perform(get("/address").param("limit", "2").param("after", String.valueOf(ids.get(0) - 1)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].addressId").value(contains(ids.get(0), ids.get(1))))
+                .andExpect(header().string("X-Next-Cursor", String.valueOf(ids.get(1))));
+        mockMvc.perform(get("/address").param("limit", "2").param("after", String.valueOf(ids.get(1))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].addressId").value(contains(ids.get(2), ids.get(3))))
+                .andExpect(header().string("X-Next-Cursor", String.valueOf(ids.get(3))));
+    }
+
+    @Test
+    void keysetPageAndBatchLookupAreReadFromTheReplica() {
+        List<Integer> ids = createAddresses(2);
+
+        double before = replicaConnectionUses();
+        addressService.getAddressesAfter(0, 1);
+        double afterPage = replicaConnectionUses();
+        List<AddressResponse> addresses = addressService.getAddressesByIds(ids);
+
+        assertThat(afterPage).isGreaterThan(before);
+        assertThat(replicaConnectionUses()).isGreaterThan(afterPage);
+        assertThat(addresses).extracting(AddressResponse::getAddressId).containsExactlyInAnyOrderElementsOf(ids);
+    }
+
+    @Test
+    void readsRightAfterAWriteAreServedByThePrimary() {
+        AddressRequest addressRequest = new AddressRequest();
+        addressRequest.setLane_1("1 Primary Road");
+        addressRequest.setState("Kerala");
+        addressRequest.setZip(680001);
+        int id = addressService.upsertAddressForEmployee(740001, addressRequest, null, null).getAddressId();
+        entityManagerFactory.getCache().evict(AddressEntity.class, id);
+        double before = replicaConnectionUses();
+
+        AddressResponse byId = addressService.getAddressById(id);
+        AddressResponse byEmployee = addressService.getAddressByEmployeeId(740001);
+
+        assertThat(byId.getLane_1()).isEqualTo("1 Primary Road");
+        assertThat(byEmployee.getAddressId()).isEqualTo(id);
+        assertThat(replicaConnectionUses()).isEqualTo(before);
+    }
+
+    @Test
+    void readByEmployeeRightAfterABulkDeleteByAddressIdIsServedByThePrimary() {
+        // Saved straight through the repository so only the delete below marks the employee as recently written
+        AddressEntity addressEntity = new AddressEntity();
+        addressEntity.setLane_1("2 Primary Road");
+        addressEntity.setState("Kerala");
+        addressEntity.setZip(680002);
+        addressEntity.setEmployeeId(740002);
+        int id = addressRepo.saveAndFlush(addressEntity).getAddressId();
+
+        addressService.deleteAddresses(List.of(id));
+        double before = replicaConnectionUses();
+
+        assertThat(addressService.getAddressByEmployeeId(740002)).isNull();
+        assertThat(replicaConnectionUses()).isEqualTo(before);
+    }
+
+    private List<Integer> createAddresses(int count) {
+        List<AddressRequest> addressRequests = IntStream.range(0, count).mapToObj(i -> {
+            AddressRequest addressRequest = new AddressRequest();
+            addressRequest.setLane_1(i + " Paging Road");
+            addressRequest.setState("Kerala");
+            addressRequest.setZip(680000 + i);
+            return addressRequest;
+        }).toList();
+        return addressService.createAddresses(addressRequests).stream().map(AddressResponse::getAddressId).toList();
+    }
+
+    private double replicaConnectionUses() {
+        Timer usage = meterRegistry.find("hikaricp.connections.usage").tag("pool", "address-replica-pool").timer();
+        return usage == null ? 0 : usage.count();
+    }
+}
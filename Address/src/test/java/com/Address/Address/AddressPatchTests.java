@@ -0,0 +1,130 @@
+package com.Address.Address;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import com.Address.Address.AddressEntity.AddressEntity;
+import com.Address.Address.AddressService.AddressService;
+import com.Address.AddressRequest;
+import com.Address.AddressResponse;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class AddressPatchTests {
+
+    private static final MediaType MERGE_PATCH_JSON = MediaType.valueOf("application/merge-patch+json");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private AddressService addressService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void nullClearsAFieldAndAbsentFieldsKeepTheirValues() throws Exception {
+        int id = createAddress(760001);
+
+        sendPatch(id, null, "{\"lane_2\":null,\"zip\":760002}")
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.lane_1").value("760001 Patch Road"))
+                .andExpect(jsonPath("$.zip").value(760002))
+                .andExpect(jsonPath("$.version").value(1));
+
+        AddressResponse address = addressService.getAddressById(id);
+        assertThat(address.getLane_2()).isNull();
+        assertThat(address.getState()).isEqualTo("Kerala");
+    }
+
+    @Test
+    void unknownReadOnlyAndRequiredFieldsAreRejectedWithoutAWrite() throws Exception {
+        int id = createAddress(760003);
+
+        sendPatch(id, null, "{\"country\":\"IN\"}")
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value(containsString("country")));
+        sendPatch(id, null, "{\"state\":\"Goa\",\"addressId\":5}").andExpect(status().isBadRequest());
+        sendPatch(id, null, "{\"employeeId\":5}").andExpect(status().isBadRequest());
+        sendPatch(id, null, "{\"version\":9}").andExpect(status().isBadRequest());
+        sendPatch(id, null, "{\"zip\":null}").andExpect(status().isBadRequest());
+        sendPatch(id, null, "{\"zip\":\"760004\"}").andExpect(status().isBadRequest());
+
+        AddressResponse address = addressService.getAddressById(id);
+        assertThat(address.getVersion()).isZero();
+        assertThat(address.getState()).isEqualTo("Kerala");
+    }
+
+    @Test
+    void ifMatchMakesThePatchConditional() throws Exception {
+        int id = createAddress(760005);
+        String tag = "\"" + id + "-0\"";
+
+        sendPatch(id, tag, "{\"state\":\"Goa\"}")
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + id + "-1\""));
+        sendPatch(id, tag, "{\"state\":\"Assam\"}")
+                .andExpect(status().isPreconditionFailed());
+
+        assertThat(addressService.getAddressById(id).getState()).isEqualTo("Goa");
+    }
+
+    @Test
+    void onlyThePatchedColumnsAreWritten() throws Exception {
+        int id = createAddress(760006);
+        // A column changed behind the cached copy without a version bump; a full-row UPDATE would put it back
+        jdbcTemplate.update("UPDATE address SET lane_1 = 'moved elsewhere' WHERE address_id = ?", id);
+
+        try {
+            sendPatch(id, null, "{\"zip\":760007}").andExpect(status().isOk());
+        } finally {
+            entityManagerFactory.getCache().evict(AddressEntity.class, id);
+        }
+
+        AddressResponse address = addressService.getAddressById(id);
+        assertThat(address.getLane_1()).isEqualTo("moved elsewhere");
+        assertThat(address.getZip()).isEqualTo(760007);
+    }
+
+    private int createAddress(int zip) {
+        AddressRequest addressRequest = new AddressRequest();
+        addressRequest.setLane_1(zip + " Patch Road");
+        addressRequest.setLane_2("Near the station");
+        addressRequest.setState("Kerala");
+        addressRequest.setZip(zip);
+        return addressService.createAddress(addressRequest).getAddressId();
+    }
+
+    private ResultActions sendPatch(int id, String ifMatch, String body) throws Exception {
+        MockHttpServletRequestBuilder request = patch("/address/" + id)
+                .contentType(MERGE_PATCH_JSON)
+                .content(body);
+        if (ifMatch != null) {
+            request.header(HttpHeaders.IF_MATCH, ifMatch);
+        }
+        return mockMvc.perform(request);
+    }
+}
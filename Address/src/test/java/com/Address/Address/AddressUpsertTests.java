@@ -0,0 +1,77 @@
+package com.Address.Address;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.Address.AddressResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class AddressUpsertTests {
+
+    private static final String ADDRESS = "{\"lane_1\":\"1 Upsert Road\",\"state\":\"Kerala\",\"zip\":680030}";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void repeatingThePutLeavesOneUnchangedAddress() throws Exception {
+        AddressResponse created = upsert(720001, ADDRESS);
+        AddressResponse repeated = upsert(720001, ADDRESS);
+
+        assertThat(repeated.getAddressId()).isEqualTo(created.getAddressId());
+        assertThat(repeated.getVersion()).isEqualTo(created.getVersion());
+        mockMvc.perform(post("/address/employee/batch").contentType(MediaType.APPLICATION_JSON).content("[720001]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)));
+    }
+
+    @Test
+    void putWithNewValuesUpdatesTheSameRow() throws Exception {
+        AddressResponse created = upsert(720002, ADDRESS);
+        AddressResponse updated = upsert(720002, ADDRESS.replace("680030", "680031"));
+
+        assertThat(updated.getAddressId()).isEqualTo(created.getAddressId());
+        assertThat(updated.getEmployeeId()).isEqualTo(720002);
+        assertThat(updated.getZip()).isEqualTo(680031);
+        assertThat(updated.getVersion()).isGreaterThan(created.getVersion());
+    }
+
+    // Address ids come from the sequence, so PUT by address id only updates; the by-employee PUT is the upsert
+    @Test
+    void putByAddressIdDoesNotCreateAMissingAddress() throws Exception {
+        mockMvc.perform(put("/address/{id}", 2_000_000_000)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(ADDRESS))
+                .andExpect(status().isNotFound());
+
+        mockMvc.perform(get("/address/{id}", 2_000_000_000)).andExpect(status().isNotFound());
+    }
+
+    private AddressResponse upsert(int employeeId, String body) throws Exception {
+        String response = mockMvc.perform(put("/address/employee/{employeeId}", employeeId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readValue(response, AddressResponse.class);
+    }
+}
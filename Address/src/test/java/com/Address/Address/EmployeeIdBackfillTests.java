@@ -0,0 +1,86 @@
+package com.Address.Address;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import com.Address.Address.config.EmployeeIdBackfill;
+
+class EmployeeIdBackfillTests {
+
+    // A database of its own, with lower-case names as MySQL reports them, so the metadata lookups match
+    private final SingleConnectionDataSource dataSource = new SingleConnectionDataSource(
+            "jdbc:h2:mem:backfill;MODE=MySQL;DATABASE_TO_LOWER=TRUE", "sa", "", true);
+
+    private final JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+
+    @AfterEach
+    void dropDatabase() {
+        dataSource.destroy();
+    }
+
+    @Test
+    void everyLegacyAddressIsLinkedToTheEmployeeWithTheSameId() {
+        createLegacyTable();
+        for (int id : new int[] { 1, 2, 7 }) {
+            insertLegacyAddress(id);
+        }
+
+        new EmployeeIdBackfill(jdbcTemplate).afterPropertiesSet();
+
+        assertThat(employeeIdsByAddressId()).containsOnly(Map.entry(1, 1), Map.entry(2, 2), Map.entry(7, 7));
+    }
+
+    @Test
+    void secondRunLeavesTheLinksAndLaterAddressesAlone() {
+        createLegacyTable();
+        insertLegacyAddress(1);
+        new EmployeeIdBackfill(jdbcTemplate).afterPropertiesSet();
+        jdbcTemplate.update("UPDATE address SET employee_id = 40 WHERE address_id = 1");
+        // Created after the column existed, without an employee
+        insertLegacyAddress(2);
+
+        new EmployeeIdBackfill(jdbcTemplate).afterPropertiesSet();
+
+        assertThat(jdbcTemplate.queryForObject("SELECT employee_id FROM address WHERE address_id = 1", Integer.class))
+                .isEqualTo(40);
+        assertThat(jdbcTemplate.queryForObject("SELECT employee_id FROM address WHERE address_id = 2", Integer.class))
+                .isNull();
+    }
+
+    @Test
+    void missingTableIsLeftForHibernateToCreate() {
+        new EmployeeIdBackfill(jdbcTemplate).afterPropertiesSet();
+
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.tables WHERE table_name = 'address'", Integer.class))
+                .isZero();
+    }
+
+    // The table as it was before addresses had an employee_id column
+    private void createLegacyTable() {
+        jdbcTemplate.execute("CREATE TABLE address (address_id INT NOT NULL, lane_1 VARCHAR(255), "
+                + "lane_2 VARCHAR(255), state VARCHAR(255), zip INT NOT NULL, PRIMARY KEY (address_id))");
+    }
+
+    private void insertLegacyAddress(int id) {
+        jdbcTemplate.update("INSERT INTO address (address_id, lane_1, state, zip) VALUES (?, ?, 'Kerala', ?)",
+                id, id + " Legacy Road", 680000 + id);
+    }
+
+    private Map<Integer, Integer> employeeIdsByAddressId() {
+        return jdbcTemplate.query("SELECT address_id, employee_id FROM address", resultSet -> {
+            Map<Integer, Integer> employeeIds = new HashMap<>();
+            while (resultSet.next()) {
+                employeeIds.put(resultSet.getInt("address_id"), (Integer) resultSet.getObject("employee_id"));
+            }
+            return employeeIds;
+        });
+    }
+}
@@ -0,0 +1,95 @@
+package com.Address.Address;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.Address.Address.AddressService.AddressService;
+import com.Address.AddressRequest;
+import com.Address.grpc.AddressServiceGrpc;
+import com.Address.grpc.EmployeeId;
+
+import io.grpc.ManagedChannel;
+import io.grpc.ManagedChannelBuilder;
+import io.grpc.Server;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@ActiveProfiles("test")
+class ObservabilityTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private AddressService addressService;
+
+    @Autowired
+    private Server addressGrpcServer;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void restReadsAreScrapedWithHistogramBucketsPerTemplate() throws Exception {
+        int id = addressService.createAddress(addressRequest(730001)).getAddressId();
+
+        mockMvc.perform(get("/address/" + id)).andExpect(status().isOk());
+
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("http_server_requests_seconds_bucket{")))
+                .andExpect(content().string(containsString("uri=\"/address/{id}\"")))
+                .andExpect(content().string(containsString("spring_data_repository_invocations_seconds_bucket{")));
+    }
+
+    @Test
+    void grpcCallsAreTimed() throws Exception {
+        addressService.upsertAddressForEmployee(730002, addressRequest(730002), null, null);
+        ManagedChannel channel = ManagedChannelBuilder.forAddress("localhost", addressGrpcServer.getPort())
+                .usePlaintext()
+                .build();
+        try {
+            AddressServiceGrpc.newBlockingStub(channel)
+                    .getAddress(EmployeeId.newBuilder().setEmployeeId(730002).build());
+        } finally {
+            channel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+        }
+
+        assertThat(awaitTimer("grpc.server", "rpc.method", "GetAddress")).isNotNull();
+    }
+
+    // The server stops a call's observation once the call completes, which can be after the client has its answer
+    private Timer awaitTimer(String name, String tagKey, String tagValue) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        Timer timer = meterRegistry.find(name).tag(tagKey, tagValue).timer();
+        while (timer == null && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            timer = meterRegistry.find(name).tag(tagKey, tagValue).timer();
+        }
+        return timer;
+    }
+
+    private static AddressRequest addressRequest(int zip) {
+        AddressRequest addressRequest = new AddressRequest();
+        addressRequest.setLane_1(zip + " Metered Road");
+        addressRequest.setState("Kerala");
+        addressRequest.setZip(zip);
+        return addressRequest;
+    }
+}
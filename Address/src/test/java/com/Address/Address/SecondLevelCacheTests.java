@@ -0,0 +1,63 @@
+package com.Address.Address;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.Address.Address.AddressEntity.AddressEntity;
+import com.Address.Address.AddressService.AddressService;
+import com.Address.AddressRequest;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class SecondLevelCacheTests {
+
+    @Autowired
+    private AddressService addressService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void addressWrittenHereIsReadBackFromTheCache() {
+        int id = addressService.createAddress(addressRequest()).getAddressId();
+        Statistics statistics = statistics();
+        long hits = statistics.getSecondLevelCacheHitCount();
+        long loads = statistics.getEntityLoadCount();
+
+        assertThat(entityManagerFactory.getCache().contains(AddressEntity.class, id)).isTrue();
+        assertThat(addressService.getAddressById(id).getZip()).isEqualTo(680050);
+        assertThat(statistics.getSecondLevelCacheHitCount()).isGreaterThan(hits);
+        assertThat(statistics.getEntityLoadCount()).isEqualTo(loads);
+    }
+
+    @Test
+    void repeatedListingIsServedFromTheQueryCache() {
+        addressService.createAddress(addressRequest());
+        addressService.getAllAddresses();
+        long queryHits = statistics().getQueryCacheHitCount();
+
+        addressService.getAllAddresses();
+
+        assertThat(statistics().getQueryCacheHitCount()).isGreaterThan(queryHits);
+    }
+
+    private Statistics statistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    private static AddressRequest addressRequest() {
+        AddressRequest addressRequest = new AddressRequest();
+        addressRequest.setLane_1("1 Cache Road");
+        addressRequest.setState("Kerala");
+        addressRequest.setZip(680050);
+        return addressRequest;
+    }
+}
@@ -0,0 +1,151 @@
+package com.Address.Address.benchmark;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.Address.Address.AddressApplication;
+import com.Address.Address.AddressService.AddressService;
+import com.Address.AddressRequest;
+import com.Address.AddressResponse;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * AddressService CRUD paths against in-memory H2.
+ * Reports throughput and sampled latency (p0.99 in the SampleTime rows);
+ * run with -prof gc, as the benchmark profile does, for bytes allocated per op.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class AddressServiceBenchmark {
+
+    private static final int SEEDED_ADDRESSES = 1_000;
+    // Seeded address n gets zip ZIP_BASE + n
+    private static final int ZIP_BASE = 10_000;
+
+    private ConfigurableApplicationContext context;
+    private AddressService addressService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(AddressApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                // Command-line arguments, unlike builder properties, take precedence over application.properties
+                .run("--logging.level.root=WARN");
+        addressService = context.getBean(AddressService.class);
+        // Seeded addresses belong to employees 1..SEEDED_ADDRESSES
+        for (int i = 1; i <= SEEDED_ADDRESSES; i++) {
+            AddressRequest addressRequest = addressRequest(i);
+            addressRequest.setEmployeeId(i);
+            addressService.createAddress(addressRequest);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public AddressResponse createAddress() {
+        return addressService.createAddress(addressRequest(ThreadLocalRandom.current().nextInt()));
+    }
+
+    @Benchmark
+    public AddressResponse getAddressById() {
+        return addressService.getAddressById(randomSeededId());
+    }
+
+    // The Employee service's lookup: a point query on the unique employee_id index
+    @Benchmark
+    public AddressResponse getAddressByEmployeeId() {
+        return addressService.getAddressByEmployeeId(randomSeededId());
+    }
+
+    @Benchmark
+    public List<AddressResponse> getAllAddresses() {
+        return addressService.getAllAddresses();
+    }
+
+    // A ten-zip window in any state, read through ix_address_zip
+    @Benchmark
+    public List<AddressResponse> findAddressesByZipRange() {
+        int zipFrom = ZIP_BASE + randomSeededId();
+        return addressService.findAddresses(null, zipFrom, zipFrom + 9, 0, 100);
+    }
+
+    @Benchmark
+    public AddressResponse updateAddress() {
+        return addressService.updateAddress(randomSeededId(), addressRequest(ThreadLocalRandom.current().nextInt()), null);
+    }
+
+    // One-field edit: with @DynamicUpdate the UPDATE sets only zip and version
+    @Benchmark
+    public AddressResponse patchAddressZip() {
+        ObjectNode patch = JsonNodeFactory.instance.objectNode()
+                .put("zip", ZIP_BASE + ThreadLocalRandom.current().nextInt(90_000));
+        return addressService.patchAddress(randomSeededId(), patch, null);
+    }
+
+    @Benchmark
+    public AddressResponse upsertAddressForEmployee() {
+        return addressService.upsertAddressForEmployee(randomSeededId(), addressRequest(ThreadLocalRandom.current().nextInt()), null, null);
+    }
+
+    // Delete needs a row to remove, so each op creates one first
+    @Benchmark
+    public boolean createAndDeleteAddress() {
+        AddressResponse created = addressService.createAddress(addressRequest(ThreadLocalRandom.current().nextInt()));
+        return addressService.deleteAddress(created.getAddressId());
+    }
+
+    private static int randomSeededId() {
+        return ThreadLocalRandom.current().nextInt(1, SEEDED_ADDRESSES + 1);
+    }
+
+    private static AddressRequest addressRequest(int n) {
+        AddressRequest addressRequest = new AddressRequest();
+        addressRequest.setLane_1(n + " Baker Street");
+        addressRequest.setLane_2("Marylebone");
+        addressRequest.setState("London");
+        addressRequest.setZip(ZIP_BASE + Math.floorMod(n, 90_000));
+        return addressRequest;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(AddressServiceBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
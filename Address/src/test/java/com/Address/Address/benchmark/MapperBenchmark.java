@@ -0,0 +1,91 @@
+package com.Address.Address.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.Address.Address.AddressEntity.AddressEntity;
+import com.Address.Address.mapper.AddressMapper;
+import com.Address.AddressRequest;
+import com.Address.AddressResponse;
+
+/**
+ * Per-row cost of AddressMapper against the reflective ModelMapper it replaced.
+ * Run the main method (or any JMH runner) and read gc.alloc.rate.norm for bytes per row.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+
+    private ModelMapper modelMapper;
+    private AddressMapper addressMapper;
+    private AddressEntity addressEntity;
+    private AddressRequest addressRequest;
+
+    @Setup
+    public void setUp() {
+        // Same construction as the former AddressApplication bean
+        modelMapper = new ModelMapper();
+        addressMapper = new AddressMapper();
+
+        addressEntity = new AddressEntity();
+        addressEntity.setAddressId(42);
+        addressEntity.setLane_1("221B Baker Street");
+        addressEntity.setLane_2("Marylebone");
+        addressEntity.setState("London");
+        addressEntity.setZip(10001);
+
+        addressRequest = new AddressRequest();
+        addressRequest.setLane_1("221B Baker Street");
+        addressRequest.setLane_2("Marylebone");
+        addressRequest.setState("London");
+        addressRequest.setZip(10001);
+    }
+
+    @Benchmark
+    public AddressResponse modelMapperToResponse() {
+        return modelMapper.map(addressEntity, AddressResponse.class);
+    }
+
+    @Benchmark
+    public AddressResponse addressMapperToResponse() {
+        return addressMapper.toResponse(addressEntity);
+    }
+
+    @Benchmark
+    public AddressEntity modelMapperToEntity() {
+        return modelMapper.map(addressRequest, AddressEntity.class);
+    }
+
+    @Benchmark
+    public AddressEntity addressMapperToEntity() {
+        return addressMapper.toEntity(addressRequest);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(MapperBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,139 @@
+package com.Address.Address.grpc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.Address.grpc.Address;
+import com.Address.grpc.AddressServiceGrpc;
+import com.Address.grpc.Addresses;
+import com.Address.grpc.EmployeeId;
+import com.Address.grpc.EmployeeIds;
+import com.Address.grpc.UpsertAddressRequest;
+
+import io.grpc.ManagedChannel;
+import io.grpc.ManagedChannelBuilder;
+import io.grpc.Server;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.stub.StreamObserver;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class AddressGrpcServiceTests {
+
+    @Autowired
+    private Server addressGrpcServer;
+
+    private ManagedChannel channel;
+
+    private AddressServiceGrpc.AddressServiceBlockingStub blockingStub;
+
+    @BeforeEach
+    void openChannel() {
+        channel = ManagedChannelBuilder.forAddress("localhost", addressGrpcServer.getPort())
+                .usePlaintext()
+                .build();
+        blockingStub = AddressServiceGrpc.newBlockingStub(channel);
+    }
+
+    @AfterEach
+    void closeChannel() throws InterruptedException {
+        channel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void upsertTwiceUpdatesTheSameAddressAndLeavesUnsetFieldsAbsent() {
+        Address created = blockingStub.upsertAddress(upsertRequest(770001, 770001));
+        Address updated = blockingStub.upsertAddress(upsertRequest(770001, 770002));
+
+        assertThat(updated.getAddressId()).isEqualTo(created.getAddressId());
+        assertThat(updated.getZip()).isEqualTo(770002);
+        assertThat(updated.getVersion()).isEqualTo(created.getVersion() + 1);
+        assertThat(updated.getEmployeeId()).isEqualTo(770001);
+        assertThat(updated.hasLane2()).isFalse();
+        assertThat(blockingStub.getAddress(employeeId(770001))).isEqualTo(updated);
+    }
+
+    @Test
+    void missingAddressIsNotFound() {
+        assertThatThrownBy(() -> blockingStub.getAddress(employeeId(770003)))
+                .isInstanceOfSatisfying(StatusRuntimeException.class,
+                        e -> assertThat(e.getStatus().getCode()).isEqualTo(Status.Code.NOT_FOUND));
+    }
+
+    @Test
+    void everyStreamedBatchIsAnsweredWithTheAddressesFound() throws Exception {
+        blockingStub.upsertAddress(upsertRequest(770004, 770004));
+        blockingStub.upsertAddress(upsertRequest(770005, 770005));
+        List<Addresses> batches = new CopyOnWriteArrayList<>();
+        CompletableFuture<Void> completed = new CompletableFuture<>();
+
+        StreamObserver<EmployeeIds> requests = AddressServiceGrpc.newStub(channel).getAddresses(new StreamObserver<>() {
+            @Override
+            public void onNext(Addresses batch) {
+                batches.add(batch);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                completed.completeExceptionally(t);
+            }
+
+            @Override
+            public void onCompleted() {
+                completed.complete(null);
+            }
+        });
+        requests.onNext(EmployeeIds.newBuilder().addAllEmployeeIds(List.of(770004, 770006, 770005)).build());
+        requests.onNext(EmployeeIds.getDefaultInstance());
+        requests.onNext(EmployeeIds.newBuilder().addEmployeeIds(770004).build());
+        requests.onCompleted();
+        completed.get(5, TimeUnit.SECONDS);
+
+        // One answer per batch, in order; the employee without an address is simply left out
+        assertThat(batches).hasSize(3);
+        assertThat(batches.get(0).getAddressesList()).extracting(Address::getEmployeeId)
+                .containsExactlyInAnyOrder(770004, 770005);
+        assertThat(batches.get(1).getAddressesList()).isEmpty();
+        assertThat(batches.get(2).getAddressesList()).extracting(Address::getZip).containsExactly(770004);
+    }
+
+    @Test
+    void deletedAddressesAreNoLongerFound() {
+        blockingStub.upsertAddress(upsertRequest(770007, 770007));
+        blockingStub.upsertAddress(upsertRequest(770008, 770008));
+
+        blockingStub.deleteAddresses(EmployeeIds.newBuilder().addAllEmployeeIds(List.of(770007, 770008, 770009)).build());
+
+        for (int employeeId : List.of(770007, 770008)) {
+            assertThatThrownBy(() -> blockingStub.getAddress(employeeId(employeeId)))
+                    .isInstanceOfSatisfying(StatusRuntimeException.class,
+                            e -> assertThat(e.getStatus().getCode()).isEqualTo(Status.Code.NOT_FOUND));
+        }
+    }
+
+    private static EmployeeId employeeId(int employeeId) {
+        return EmployeeId.newBuilder().setEmployeeId(employeeId).build();
+    }
+
+    private static UpsertAddressRequest upsertRequest(int employeeId, int zip) {
+        return UpsertAddressRequest.newBuilder()
+                .setEmployeeId(employeeId)
+                .setLane1(zip + " Streamed Road")
+                .setState("Kerala")
+                .setZip(zip)
+                .build();
+    }
+}
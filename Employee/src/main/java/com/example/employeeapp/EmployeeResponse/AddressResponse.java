@@ -3,10 +3,13 @@ package com.example.employeeapp.EmployeeResponse;
 public class AddressResponse {
     
     private int addressId;
+    private Integer employeeId;
     private String lane_1;
     private String lane_2;
     private String state;
     private int zip;
+    // null for an address this service has queued but the Address service has not stored yet
+    private Long version;
     
     // Getters and Setters
     public int getAddressId() {
@@ -17,6 +20,14 @@ public class AddressResponse {
         this.addressId = addressId;
     }
     
+    public Integer getEmployeeId() {
+        return employeeId;
+    }
+    
+    public void setEmployeeId(Integer employeeId) {
+        this.employeeId = employeeId;
+    }
+    
     public String getLane_1() {
         return lane_1;
     }
@@ -48,5 +59,13 @@ public class AddressResponse {
     public void setZip(int zip) {
         this.zip = zip;
     }
+    
+    public Long getVersion() {
+        return version;
+    }
+    
+    public void setVersion(Long version) {
+        this.version = version;
+    }
 }
 
@@ -0,0 +1,57 @@
+package com.example.employeeapp.EmployeeResponse;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sparse fieldsets for the employee reads: ?fields=name,email.
+ * Field names are the JSON properties of EmployeeResponse, which are also the Employee attribute names.
+ * The id and version are always included: the id so rows can be told apart and keyset paging keeps working,
+ * the version so a trimmed row can still be sent back conditionally.
+ */
+public final class EmployeeFields {
+
+    public static final String ID = "id";
+    public static final String VERSION = "version";
+    public static final List<String> ALL = List.of(ID, "name", "email", "bloodgroup", VERSION);
+
+    private EmployeeFields() {
+    }
+
+    /**
+     * @param fields Requested field names, in any order; null when the parameter was not given
+     * @return The fields to return in EmployeeResponse order, always with id and version; null for the full response
+     * @throws IllegalArgumentException on a name that is not an EmployeeResponse field
+     */
+    public static List<String> parse(List<String> fields) {
+        if (fields == null) {
+            return null;
+        }
+        List<String> requested = fields.stream().map(String::strip).filter(field -> !field.isEmpty()).toList();
+        for (String field : requested) {
+            if (!ALL.contains(field)) {
+                throw new IllegalArgumentException("Unknown field '" + field + "', expected any of " + String.join(", ", ALL));
+            }
+        }
+        return ALL.stream()
+                .filter(field -> field.equals(ID) || field.equals(VERSION) || requested.contains(field))
+                .toList();
+    }
+
+    // The given fields of an already mapped employee, for reads served whole from the cache
+    public static Map<String, Object> select(EmployeeResponse employee, List<String> fields) {
+        Map<String, Object> selected = new LinkedHashMap<>();
+        for (String field : fields) {
+            selected.put(field, switch (field) {
+                case ID -> employee.getId();
+                case "name" -> employee.getName();
+                case "email" -> employee.getEmail();
+                case "bloodgroup" -> employee.getBloodgroup();
+                case VERSION -> employee.getVersion();
+                default -> throw new IllegalArgumentException("Unknown field '" + field + "'");
+            });
+        }
+        return selected;
+    }
+}
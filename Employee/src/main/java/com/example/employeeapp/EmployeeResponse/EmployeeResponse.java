@@ -9,6 +9,7 @@ public class EmployeeResponse {
     private String name;
     private String email;
     private String bloodgroup;
+    private long version;
 
     
     public void setId(int id) {
@@ -23,6 +24,9 @@ public class EmployeeResponse {
     public void setBloodgroup(String bloodgroup) {
         this.bloodgroup = bloodgroup;
     }
+    public void setVersion(long version) {
+        this.version = version;
+    }
 
     public int getId() {
         return id;
@@ -40,4 +44,8 @@ public class EmployeeResponse {
         return bloodgroup;
     }
 
+    public long getVersion() {
+        return version;
+    }
+
 }
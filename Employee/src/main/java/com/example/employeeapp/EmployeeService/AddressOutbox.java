@@ -0,0 +1,77 @@
+package com.example.employeeapp.EmployeeService;
+
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.employeeapp.EmployeeResponse.AddressRequest;
+import com.example.employeeapp.employeeEntity.AddressOutboxEvent;
+import com.example.employeeapp.employeeRepo.AddressOutboxRepo;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Records address changes in the outbox table as part of the caller's transaction.
+ * They only become visible to the dispatcher once the employee change commits.
+ * Pending rows are replaced with a single UPDATE rather than read-modify-write, so a row the
+ * dispatcher removes concurrently is simply inserted again instead of failing the employee change.
+ * New rows go in with INSERT ... ON DUPLICATE KEY UPDATE, so two first changes for one employee
+ * racing each other end with the later one pending instead of a duplicate key failure.
+ */
+@Component
+public class AddressOutbox {
+
+    // Employee ids per IN list, well under MySQL's 65,535 placeholders per statement
+    private static final int CHUNK_SIZE = 500;
+
+    @Autowired
+    private AddressOutboxRepo outboxRepo;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueueUpsert(int employeeId, AddressRequest addressRequest) {
+        enqueue(List.of(employeeId), AddressOutboxEvent.Type.UPSERT, toJson(addressRequest));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueueDelete(int employeeId) {
+        enqueue(List.of(employeeId), AddressOutboxEvent.Type.DELETE, null);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueueDeletes(List<Integer> employeeIds) {
+        enqueue(employeeIds, AddressOutboxEvent.Type.DELETE, null);
+    }
+
+    // A new change replaces whatever was pending for the employee, including its retry state
+    private void enqueue(List<Integer> employeeIds, AddressOutboxEvent.Type type, String payload) {
+        Instant now = Instant.now();
+        Set<Integer> pending = new HashSet<>();
+        for (int from = 0; from < employeeIds.size(); from += CHUNK_SIZE) {
+            List<Integer> chunk = employeeIds.subList(from, Math.min(from + CHUNK_SIZE, employeeIds.size()));
+            if (outboxRepo.replacePending(chunk, type, payload, now) > 0) {
+                pending.addAll(outboxRepo.findPendingIds(chunk));
+            }
+        }
+        employeeIds.stream()
+                .distinct()
+                .filter(employeeId -> !pending.contains(employeeId))
+                .forEach(employeeId -> outboxRepo.insertOrReplace(employeeId, type.name(), payload, now));
+    }
+
+    private String toJson(AddressRequest addressRequest) {
+        try {
+            return objectMapper.writeValueAsString(addressRequest);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Address cannot be serialized: " + e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.example.employeeapp.EmployeeService;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.example.employeeapp.EmployeeResponse.AddressRequest;
+import com.example.employeeapp.client.AddressClient;
+import com.example.employeeapp.employeeEntity.AddressOutboxEvent;
+import com.example.employeeapp.employeeRepo.AddressOutboxRepo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Drains the address outbox in the background.
+ * Deletes in a batch go out as one bulk call; upserts are idempotent PUTs, so a retry or a
+ * second instance sending the same event is harmless (delivery is at-least-once).
+ * Failed events are retried with exponential backoff until employee.outbox.max-attempts,
+ * after which they are dead letters: parked in the table with their last error, logged at ERROR,
+ * counted in address.outbox.dead.letters and gauged in address.outbox.dead until requeued
+ * (POST /actuator/addressoutbox).
+ */
+@Component
+public class AddressOutboxDispatcher implements MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(AddressOutboxDispatcher.class);
+
+    @Autowired
+    private AddressOutboxRepo outboxRepo;
+
+    @Autowired
+    private AddressClient addressClient;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${employee.outbox.batch-size:100}")
+    private int batchSize;
+
+    @Value("${employee.outbox.max-attempts:10}")
+    private int maxAttempts;
+
+    @Value("${employee.outbox.retry-backoff:1s}")
+    private Duration retryBackoff;
+
+    @Value("${employee.outbox.max-retry-backoff:5m}")
+    private Duration maxRetryBackoff;
+
+    // Events given up on since startup
+    private final AtomicLong deadLettered = new AtomicLong();
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("address.outbox.dead.letters", deadLettered, AtomicLong::get)
+                .description("Address outbox events given up on after the last attempt")
+                .register(registry);
+        Gauge.builder("address.outbox.dead", this, AddressOutboxDispatcher::deadLetterCount)
+                .description("Address outbox events parked after running out of attempts")
+                .register(registry);
+    }
+
+    // Keep going while full batches come back; failed events are pushed into the future so this ends
+    @Scheduled(fixedDelayString = "${employee.outbox.poll-interval-ms:500}")
+    public void dispatch() {
+        List<AddressOutboxEvent> due;
+        do {
+            due = outboxRepo.findByAttemptsLessThanAndNextAttemptAtLessThanEqualOrderByNextAttemptAtAsc(
+                    maxAttempts, Instant.now(), Limit.of(batchSize));
+            send(due);
+        } while (due.size() == batchSize);
+    }
+
+    private void send(List<AddressOutboxEvent> events) {
+        List<AddressOutboxEvent> deletes = events.stream()
+                .filter(event -> event.getType() == AddressOutboxEvent.Type.DELETE)
+                .collect(Collectors.toList());
+        if (!deletes.isEmpty()) {
+            List<Integer> ids = deletes.stream().map(AddressOutboxEvent::getEmployeeId).collect(Collectors.toList());
+            boolean deleted = addressClient.deleteAddresses(ids);
+            deletes.forEach(event -> complete(event, deleted));
+        }
+
+        events.stream()
+                .filter(event -> event.getType() == AddressOutboxEvent.Type.UPSERT)
+                .forEach(event -> complete(event, upsert(event)));
+    }
+
+    private boolean upsert(AddressOutboxEvent event) {
+        try {
+            AddressRequest addressRequest = objectMapper.readValue(event.getPayload(), AddressRequest.class);
+            return addressClient.updateAddress(event.getEmployeeId(), addressRequest) != null;
+        } catch (Exception e) {
+            log.warn("Unreadable address outbox payload for employee {}: {}", event.getEmployeeId(), e.getMessage());
+            return false;
+        }
+    }
+
+    private void complete(AddressOutboxEvent event, boolean sent) {
+        if (sent) {
+            outboxRepo.deleteSent(event.getEmployeeId(), event.getVersion());
+            return;
+        }
+        int attempts = event.getAttempts() + 1;
+        int marked = outboxRepo.markFailed(event.getEmployeeId(), event.getVersion(),
+                Instant.now().plus(backoff(attempts)), "Address service call failed");
+        // Not a dead letter if a newer change replaced the event meanwhile (marked == 0)
+        if (attempts >= maxAttempts && marked > 0) {
+            deadLettered.incrementAndGet();
+            log.error("Giving up on address {} for employee {} after {} attempts; parked until requeued",
+                    event.getType(), event.getEmployeeId(), attempts);
+        }
+    }
+
+    public long deadLetterCount() {
+        return outboxRepo.countByAttemptsGreaterThanEqual(maxAttempts);
+    }
+
+    // Parked events in employee id order
+    public List<AddressOutboxEvent> deadLetters(int limit) {
+        return outboxRepo.findByAttemptsGreaterThanEqualOrderByEmployeeIdAsc(maxAttempts, Limit.of(limit));
+    }
+
+    /**
+     * Give every dead letter a fresh set of attempts, e.g. once the Address service is back; the next poll sends them
+     * @return Number of events requeued
+     */
+    public int requeueDeadLetters() {
+        int requeued = outboxRepo.requeueDead(maxAttempts, Instant.now());
+        if (requeued > 0) {
+            log.info("Requeued {} dead address outbox events", requeued);
+        }
+        return requeued;
+    }
+
+    private Duration backoff(int attempts) {
+        Duration delay = retryBackoff.multipliedBy(1L << Math.min(attempts - 1, 20));
+        return delay.compareTo(maxRetryBackoff) > 0 ? maxRetryBackoff : delay;
+    }
+}
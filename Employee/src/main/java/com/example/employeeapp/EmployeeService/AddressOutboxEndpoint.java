@@ -0,0 +1,50 @@
+package com.example.employeeapp.EmployeeService;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * /actuator/addressoutbox: the address outbox's dead letters (events that ran out of attempts),
+ * and POST to requeue them all once whatever made them fail is fixed.
+ */
+@Component
+@Endpoint(id = "addressoutbox")
+public class AddressOutboxEndpoint {
+
+    private static final int LISTED_DEAD_LETTERS = 50;
+
+    private final AddressOutboxDispatcher dispatcher;
+
+    public AddressOutboxEndpoint(AddressOutboxDispatcher dispatcher) {
+        this.dispatcher = dispatcher;
+    }
+
+    @ReadOperation
+    public Map<String, Object> deadLetters() {
+        List<Map<String, Object>> listed = dispatcher.deadLetters(LISTED_DEAD_LETTERS).stream()
+                .map(event -> {
+                    Map<String, Object> row = new LinkedHashMap<>();
+                    row.put("employeeId", event.getEmployeeId());
+                    row.put("type", event.getType());
+                    row.put("attempts", event.getAttempts());
+                    row.put("lastError", event.getLastError());
+                    return row;
+                })
+                .toList();
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("dead", dispatcher.deadLetterCount());
+        summary.put("deadLetters", listed);
+        return summary;
+    }
+
+    @WriteOperation
+    public Map<String, Object> requeue() {
+        return Map.of("requeued", dispatcher.requeueDeadLetters());
+    }
+}
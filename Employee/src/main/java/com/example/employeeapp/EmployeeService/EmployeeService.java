@@ -1,67 +1,111 @@
 package com.example.employeeapp.EmployeeService;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
-import org.modelmapper.ModelMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import com.example.employeeapp.EmployeeResponse.AddressRequest;
 import com.example.employeeapp.EmployeeResponse.AddressResponse;
 import com.example.employeeapp.EmployeeResponse.EmployeeRequest;
 import com.example.employeeapp.EmployeeResponse.EmployeeResponse;
 import com.example.employeeapp.EmployeeResponse.EmployeeWithAddressResponse;
+import com.example.employeeapp.client.AddressClient;
+import com.example.employeeapp.datasource.RecentWrites;
 import com.example.employeeapp.employeeEntity.Employee;
 import com.example.employeeapp.employeeRepo.EmployeeRepo;
+import com.example.employeeapp.employeeRepo.EmployeeSpecifications;
+import com.example.employeeapp.mapper.EmployeeMapper;
+import com.example.employeeapp.search.EmployeeSearchIndex;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 
 @Service
 public class EmployeeService {
 
+    private static final Logger log = LoggerFactory.getLogger(EmployeeService.class);
+
+    // Employees flushed and cleared from the persistence context at a time during bulk writes, and ids per IN list
+    // in bulk deletes (MySQL caps a statement at 65,535 placeholders)
+    private static final int BULK_CHUNK_SIZE = 500;
+    private static final Sort BY_ID = Sort.by("id");
+
     @Autowired
     private EmployeeRepo employeeRepo;
 
     @Autowired
-    private ModelMapper modelMapper;
+    private EmployeeMapper employeeMapper;
+
+    @Autowired
+    private AddressClient addressClient;
+
+    // Address writes are recorded here with the employee change and sent after commit
+    @Autowired
+    private AddressOutbox addressOutbox;
 
+    // Ids written here recently, read back from the primary rather than the replica
     @Autowired
-    private RestTemplate restTemplate;
-    
+    private RecentWrites recentWrites;
 
-    private static final String ADDRESS_SERVICE_URL = "http://localhost:8089/address/";
-    private static final String ADDRESS_SERVICE_BASE_URL = "http://localhost:8089/address";
+    // Type-ahead over names and emails, updated as writes here commit
+    @Autowired
+    private EmployeeSearchIndex searchIndex;
 
-    // Create Employee with Address
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // Virtual-thread executor when spring.threads.virtual.enabled=true
+    @Autowired
+    @Qualifier("applicationTaskExecutor")
+    private Executor taskExecutor;
+
+    // Overlap the local DB work with the remote Address calls instead of running them back to back
+    @Value("${employee.async.enabled:false}")
+    private boolean asyncEnabled;
+
+    // Concurrent reads of the same id share one DB query / one Address call, except for ids written here
+    // recently: those callers must see their own write, which a lookup already in flight may have missed
+    private final SingleFlight<Integer, EmployeeResponse> employeeLookups = new SingleFlight<>();
+    private final SingleFlight<Integer, AddressResponse> addressLookups = new SingleFlight<>();
+
+    // Create Employee with Address (the address is linked to the employee id once the outbox sends it)
+    @Transactional
     public EmployeeWithAddressResponse createEmployeeWithAddress(EmployeeRequest employeeRequest) {
         try {
             // Step 1: Create Employee
-            Employee employee = modelMapper.map(employeeRequest, Employee.class);
+            Employee employee = employeeMapper.toEntity(employeeRequest);
             Employee savedEmployee = employeeRepo.save(employee);
-            EmployeeResponse employeeResponse = modelMapper.map(savedEmployee, EmployeeResponse.class);
+            recentWrites.record(savedEmployee.getId());
+            EmployeeResponse employeeResponse = employeeMapper.toResponse(savedEmployee);
+            indexAfterCommit(List.of(employeeResponse));
             
-            // Step 2: Create Address if provided
+            // Step 2: Queue Address creation if provided
+            AddressRequest addressRequest = employeeRequest.getAddress();
             AddressResponse addressResponse = null;
-            if (employeeRequest.getAddress() != null) {
-                try {
-                    // Call Address service to create address
-                    AddressRequest addressRequest = employeeRequest.getAddress();
-                    ResponseEntity<AddressResponse> addressResponseEntity = restTemplate.postForEntity(
-                        ADDRESS_SERVICE_BASE_URL,
-                        addressRequest,
-                        AddressResponse.class
-                    );
-                    
-                    if (addressResponseEntity.getStatusCode() == HttpStatus.CREATED && 
-                        addressResponseEntity.getBody() != null) {
-                        addressResponse = addressResponseEntity.getBody();
-                    }
-                } catch (Exception e) {
-                    System.err.println("Error creating address: " + e.getMessage());
-                    // Continue even if address creation fails - employee is already created
-                }
+            if (addressRequest != null) {
+                addressOutbox.enqueueUpsert(savedEmployee.getId(), addressRequest);
+                addressResponse = pendingAddress(savedEmployee.getId(), addressRequest);
             }
             
             // Step 3: Return combined response
@@ -71,7 +115,7 @@ public class EmployeeService {
             
             return response;
         } catch (Exception e) {
-            e.printStackTrace();
+            log.error("createEmployeeWithAddress failed", e);
             throw new RuntimeException("Failed to create employee: " + e.getMessage(), e);
         }
     }
@@ -79,93 +123,170 @@ public class EmployeeService {
     // Create Employee only (without address)
     public EmployeeResponse createEmployee(EmployeeRequest employeeRequest) {
         try {
-            Employee employee = modelMapper.map(employeeRequest, Employee.class);
+            Employee employee = employeeMapper.toEntity(employeeRequest);
             Employee savedEmployee = employeeRepo.save(employee);
-            return modelMapper.map(savedEmployee, EmployeeResponse.class);
+            recentWrites.record(savedEmployee.getId());
+            EmployeeResponse employeeResponse = employeeMapper.toResponse(savedEmployee);
+            indexAfterCommit(List.of(employeeResponse));
+            return employeeResponse;
         } catch (Exception e) {
-            e.printStackTrace();
+            log.error("createEmployee failed", e);
             throw new RuntimeException("Failed to create employee: " + e.getMessage(), e);
         }
     }
 
+    /**
+     * Create many employees (without addresses) in one transaction.
+     * Inserts go out as JDBC batches; the persistence context is cleared per chunk to bound memory.
+     * @param employeeRequests Employees to create
+     * @return Created employees, in request order
+     */
+    @Transactional
+    public List<EmployeeResponse> createEmployees(List<EmployeeRequest> employeeRequests) {
+        List<EmployeeResponse> created = new ArrayList<>(employeeRequests.size());
+        for (int from = 0; from < employeeRequests.size(); from += BULK_CHUNK_SIZE) {
+            List<Employee> chunk = employeeRequests
+                    .subList(from, Math.min(from + BULK_CHUNK_SIZE, employeeRequests.size()))
+                    .stream()
+                    .map(employeeRequest -> employeeMapper.toEntity(employeeRequest))
+                    .collect(Collectors.toList());
+            employeeRepo.saveAll(chunk);
+            employeeRepo.flush();
+            chunk.forEach(employee -> {
+                recentWrites.record(employee.getId());
+                created.add(employeeMapper.toResponse(employee));
+            });
+            entityManager.clear();
+        }
+        indexAfterCommit(created);
+        return created;
+    }
+
     /**
      * Get employee only (without address)
      * @param id Employee ID
      * @return EmployeeResponse
      */
+    @Transactional(readOnly = true)
     public EmployeeResponse getEmployeeById(int id) {
-        Employee employee = employeeRepo.findById(id).orElse(null);
-        if (employee == null) {
-            return null;
+        Supplier<EmployeeResponse> lookup = () -> employeeRepo.findById(id)
+                .map(employee -> employeeMapper.toResponse(employee))
+                .orElse(null);
+        if (recentWrites.isRecent(id)) {
+            return recentWrites.read(id, lookup);
         }
-        return modelMapper.map(employee, EmployeeResponse.class);
+        return employeeLookups.execute(id, lookup);
     }
 
-    // Read - Get All
+    // Read - Get All (from the replica, so it can trail writes by the replication lag)
+    @Transactional(readOnly = true)
     public List<EmployeeResponse> getAllEmployees() {
         List<Employee> employees = employeeRepo.findAll();
         return employees.stream()
-                .map(employee -> modelMapper.map(employee, EmployeeResponse.class))
+                .map(employee -> employeeMapper.toResponse(employee))
                 .collect(Collectors.toList());
     }
 
-    // Update Employee (with optional address update)
-    public EmployeeWithAddressResponse updateEmployeeWithAddress(int id, EmployeeRequest employeeRequest) {
+    /**
+     * Keyset page: employees with an id greater than the cursor, in id order
+     * @param after Last id seen by the caller (0 for the first page)
+     * @param limit Maximum number of rows to return
+     * @return Up to limit employees
+     */
+    @Transactional(readOnly = true)
+    public List<EmployeeResponse> getEmployeesAfter(int after, int limit) {
+        List<Employee> employees = employeeRepo.findByIdGreaterThanOrderByIdAsc(after, Limit.of(limit));
+        return employees.stream()
+                .map(employee -> employeeMapper.toResponse(employee))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Employees matching the filters, in id order (from the replica); each filter left null is not applied
+     * @param bloodgroups Any of these blood groups
+     * @param email Exact email
+     * @param after Last id seen by the caller (0 for the first page)
+     * @param limit Maximum number of rows to return, or null for every match
+     * @return Matching employees
+     */
+    @Transactional(readOnly = true)
+    public List<EmployeeResponse> findEmployees(List<String> bloodgroups, String email, int after, Integer limit) {
+        List<Employee> employees = employeeRepo.findBy(EmployeeSpecifications.matching(bloodgroups, email, after),
+                query -> limit == null ? query.sortBy(BY_ID).all() : query.sortBy(BY_ID).limit(limit).all());
+        return employees.stream()
+                .map(employee -> employeeMapper.toResponse(employee))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Sparse-fieldset listing: like findEmployees, but only the given columns are selected and returned
+     * @param fields Field names from EmployeeFields.parse
+     * @param bloodgroups Any of these blood groups
+     * @param email Exact email
+     * @param after Last id seen by the caller (0 for the first page)
+     * @param limit Maximum number of rows to return, or null for every match
+     * @return One map per employee, field name to value
+     */
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> findEmployeeFields(List<String> fields, List<String> bloodgroups, String email, int after, Integer limit) {
+        return employeeRepo.findFields(EmployeeSpecifications.matching(bloodgroups, email, after), fields, limit);
+    }
+
+    /**
+     * Type-ahead: employees whose name or email contains the query (a word starting with it when shorter than three characters)
+     * @param query Text typed so far
+     * @param limit Maximum number of results
+     * @return Matches in id order; the index picks them, the rows come from the replica
+     */
+    @Transactional(readOnly = true)
+    public List<EmployeeResponse> searchEmployees(String query, int limit) {
+        List<Integer> ids = searchIndex.search(query, limit);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return employeeRepo.findAllById(ids).stream()
+                .sorted(Comparator.comparingInt(Employee::getId))
+                .map(employee -> employeeMapper.toResponse(employee))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Stream every employee to the consumer one row at a time.
+     * Rows are detached once handed over so the persistence context stays small.
+     * @param consumer Receives each mapped employee in id order
+     */
+    @Transactional(readOnly = true)
+    public void streamAllEmployees(Consumer<EmployeeResponse> consumer) {
+        try (Stream<Employee> employees = employeeRepo.streamAll()) {
+            employees.forEach(employee -> {
+                consumer.accept(employeeMapper.toResponse(employee));
+                entityManager.detach(employee);
+            });
+        }
+    }
+
+    // Update Employee (with optional address update, sent through the outbox); see updateEmployee for expectedVersion
+    @Transactional
+    public EmployeeWithAddressResponse updateEmployeeWithAddress(int id, EmployeeRequest employeeRequest, Long expectedVersion) {
         Employee employee = employeeRepo.findById(id).orElse(null);
         if (employee == null) {
             return null;
         }
+        checkVersion(employee, expectedVersion);
         
         // Update employee fields
-        employee.setName(employeeRequest.getName());
-        employee.setEmail(employeeRequest.getEmail());
-        employee.setBloodgroup(employeeRequest.getBloodgroup());
-        Employee updatedEmployee = employeeRepo.save(employee);
-        EmployeeResponse employeeResponse = modelMapper.map(updatedEmployee, EmployeeResponse.class);
+        employeeMapper.copyToEntity(employeeRequest, employee);
+        Employee updatedEmployee = employeeRepo.saveAndFlush(employee);
+        recentWrites.record(id);
+        EmployeeResponse employeeResponse = employeeMapper.toResponse(updatedEmployee);
+        indexAfterCommit(List.of(employeeResponse));
         
-        // Update address if provided
+        // Queue address update if provided
+        AddressRequest addressRequest = employeeRequest.getAddress();
         AddressResponse addressResponse = null;
-        if (employeeRequest.getAddress() != null) {
-            try {
-                // Try to get existing address first
-                try {
-                    ResponseEntity<AddressResponse> existingAddress = restTemplate.getForEntity(
-                        ADDRESS_SERVICE_URL + id,
-                        AddressResponse.class
-                    );
-                    
-                    if (existingAddress.getStatusCode() == HttpStatus.OK && 
-                        existingAddress.getBody() != null) {
-                        // Address exists - update it
-                        restTemplate.put(
-                            ADDRESS_SERVICE_URL + id,
-                            employeeRequest.getAddress()
-                        );
-                        // Get updated address
-                        ResponseEntity<AddressResponse> updatedAddress = restTemplate.getForEntity(
-                            ADDRESS_SERVICE_URL + id,
-                            AddressResponse.class
-                        );
-                        if (updatedAddress.getBody() != null) {
-                            addressResponse = updatedAddress.getBody();
-                        }
-                    }
-                } catch (Exception e) {
-                    // Address doesn't exist - create new one
-                    ResponseEntity<AddressResponse> newAddress = restTemplate.postForEntity(
-                        ADDRESS_SERVICE_BASE_URL,
-                        employeeRequest.getAddress(),
-                        AddressResponse.class
-                    );
-                    if (newAddress.getStatusCode() == HttpStatus.CREATED && 
-                        newAddress.getBody() != null) {
-                        addressResponse = newAddress.getBody();
-                    }
-                }
-            } catch (Exception e) {
-                System.err.println("Error updating address: " + e.getMessage());
-                // Continue even if address update fails
-            }
+        if (addressRequest != null) {
+            addressOutbox.enqueueUpsert(id, addressRequest);
+            addressResponse = pendingAddress(id, addressRequest);
         }
         
         EmployeeWithAddressResponse response = new EmployeeWithAddressResponse();
@@ -175,46 +296,124 @@ public class EmployeeService {
         return response;
     }
 
-    // Update Employee only (without address)
-    public EmployeeResponse updateEmployee(int id, EmployeeRequest employeeRequest) {
+    /**
+     * Update Employee only (without address). The lookup is normally served by the second-level cache, so the
+     * versioned UPDATE ... WHERE id = ? AND version = ? is the only statement; it matches no row when another
+     * writer got there first, which fails the update rather than overwriting their change.
+     * @param expectedVersion Version the caller read (If-Match), or null to update whatever is current
+     * @return Updated employee, or null if there is no such employee
+     * @throws org.springframework.dao.OptimisticLockingFailureException if the row is not at expectedVersion
+     *         or was changed concurrently
+     */
+    @Transactional
+    public EmployeeResponse updateEmployee(int id, EmployeeRequest employeeRequest, Long expectedVersion) {
         Employee employee = employeeRepo.findById(id).orElse(null);
         if (employee == null) {
             return null;
         }
+        checkVersion(employee, expectedVersion);
         
-        employee.setName(employeeRequest.getName());
-        employee.setEmail(employeeRequest.getEmail());
-        employee.setBloodgroup(employeeRequest.getBloodgroup());
+        employeeMapper.copyToEntity(employeeRequest, employee);
         
-        Employee updatedEmployee = employeeRepo.save(employee);
-        return modelMapper.map(updatedEmployee, EmployeeResponse.class);
+        // Flushed here so the response carries the incremented version
+        Employee updatedEmployee = employeeRepo.saveAndFlush(employee);
+        recentWrites.record(id);
+        EmployeeResponse employeeResponse = employeeMapper.toResponse(updatedEmployee);
+        indexAfterCommit(List.of(employeeResponse));
+        return employeeResponse;
     }
 
-    // Delete Employee (with address deletion)
+    /**
+     * Partial update from a JSON Merge Patch; only the patched columns are written (see Employee's @DynamicUpdate)
+     * @param patch Merge patch of the employee's fields, as for EmployeeMapper.applyPatch
+     * @param expectedVersion Version the caller read (If-Match), or null to patch whatever is current
+     * @return Updated employee, or null if there is no such employee
+     * @throws IllegalArgumentException if the patch is not valid for an employee; nothing is written
+     * @throws org.springframework.dao.OptimisticLockingFailureException as for updateEmployee
+     */
+    @Transactional
+    public EmployeeResponse patchEmployee(int id, JsonNode patch, Long expectedVersion) {
+        Employee employee = employeeRepo.findById(id).orElse(null);
+        if (employee == null) {
+            return null;
+        }
+        checkVersion(employee, expectedVersion);
+
+        employeeMapper.applyPatch(patch, employee);
+
+        Employee updatedEmployee = employeeRepo.saveAndFlush(employee);
+        recentWrites.record(id);
+        EmployeeResponse employeeResponse = employeeMapper.toResponse(updatedEmployee);
+        indexAfterCommit(List.of(employeeResponse));
+        return employeeResponse;
+    }
+
+    // Checked against the cached copy first, so a stale If-Match is refused without a round trip
+    private static void checkVersion(Employee employee, Long expectedVersion) {
+        if (expectedVersion != null && employee.getVersion() != expectedVersion) {
+            throw new ObjectOptimisticLockingFailureException(Employee.class, employee.getId());
+        }
+    }
+
+    /**
+     * Update many employees (without addresses) in one transaction; unknown ids are skipped
+     * @param employeeRequests New field values keyed by employee ID
+     * @return Updated employees
+     */
+    @Transactional
+    public List<EmployeeResponse> updateEmployees(Map<Integer, EmployeeRequest> employeeRequests) {
+        List<Integer> ids = new ArrayList<>(employeeRequests.keySet());
+        List<EmployeeResponse> updated = new ArrayList<>(ids.size());
+        for (int from = 0; from < ids.size(); from += BULK_CHUNK_SIZE) {
+            List<Employee> chunk = employeeRepo.findAllById(ids.subList(from, Math.min(from + BULK_CHUNK_SIZE, ids.size())));
+            chunk.forEach(employee -> employeeMapper.copyToEntity(employeeRequests.get(employee.getId()), employee));
+            employeeRepo.flush();
+            chunk.forEach(employee -> recentWrites.record(employee.getId()));
+            chunk.forEach(employee -> updated.add(employeeMapper.toResponse(employee)));
+            entityManager.clear();
+        }
+        indexAfterCommit(updated);
+        return updated;
+    }
+
+    // Delete Employee (with address deletion, sent through the outbox after commit)
+    @Transactional
     public boolean deleteEmployeeWithAddress(int id) {
-        if (employeeRepo.existsById(id)) {
-            // Delete address first (if exists)
-            try {
-                restTemplate.delete(ADDRESS_SERVICE_URL + id);
-            } catch (Exception e) {
-                System.err.println("Error deleting address: " + e.getMessage());
-                // Continue to delete employee even if address deletion fails
-            }
-            
-            // Delete employee
-            employeeRepo.deleteById(id);
-            return true;
+        Employee employee = employeeRepo.findById(id).orElse(null);
+        if (employee == null) {
+            return false;
         }
-        return false;
+        
+        employeeRepo.delete(employee);
+        recentWrites.record(id);
+        afterCommit(() -> searchIndex.remove(id));
+        addressOutbox.enqueueDelete(id);
+        return true;
     }
 
-    // Delete Employee only (without address)
+    // Delete Employee only (without address); the lookup is served by the second-level cache
+    @Transactional
     public boolean deleteEmployee(int id) {
-        if (employeeRepo.existsById(id)) {
-            employeeRepo.deleteById(id);
-            return true;
+        Employee employee = employeeRepo.findById(id).orElse(null);
+        if (employee == null) {
+            return false;
         }
-        return false;
+        employeeRepo.delete(employee);
+        recentWrites.record(id);
+        afterCommit(() -> searchIndex.remove(id));
+        return true;
+    }
+
+    // Delete many Employees (with their addresses): one DELETE ... IN (...) per chunk; the outbox sends the Address deletes
+    @Transactional
+    public void deleteEmployeesWithAddress(List<Integer> ids) {
+        for (int from = 0; from < ids.size(); from += BULK_CHUNK_SIZE) {
+            employeeRepo.deleteAllByIdInBatch(ids.subList(from, Math.min(from + BULK_CHUNK_SIZE, ids.size())));
+        }
+        recentWrites.recordAll(ids);
+        List<Integer> deleted = List.copyOf(ids);
+        afterCommit(() -> searchIndex.removeAll(deleted));
+        addressOutbox.enqueueDeletes(ids);
     }
 
     /**
@@ -223,39 +422,92 @@ public class EmployeeService {
      * @return Combined employee and address data
      */
     public EmployeeWithAddressResponse getEmployeeWithAddress(int id) {
-        // Step 1: Get employee from own database
-        Employee employee = employeeRepo.findById(id).orElse(null);
-        if (employee == null) {
+        // The address lookup only needs the id, so in async mode it runs alongside the DB read
+        Supplier<AddressResponse> addressResponseSupplier = fork(() -> recentWrites.isRecent(id)
+                ? addressClient.getAddress(id)
+                : addressLookups.execute(id, () -> addressClient.getAddress(id)));
+
+        // Step 1: Get employee from own database (shared with concurrent lookups of the same id)
+        EmployeeResponse employeeResponse = getEmployeeById(id);
+        if (employeeResponse == null) {
             return null;
         }
         
-        EmployeeResponse employeeResponse = modelMapper.map(employee, EmployeeResponse.class);
+        // Step 2: Call Address microservice (null when missing or unavailable)
+        AddressResponse addressResponse = addressResponseSupplier.get();
         
-        // Step 2: Call Address microservice
-        try {
-            String addressUrl = ADDRESS_SERVICE_URL + id;
-            ResponseEntity<AddressResponse> addressResponse = restTemplate.getForEntity(
-                addressUrl, 
-                AddressResponse.class
-            );
-            
-            // Step 3: Combine data
-            EmployeeWithAddressResponse response = new EmployeeWithAddressResponse();
-            response.setEmployee(employeeResponse);
-            
-            if (addressResponse.getStatusCode() == HttpStatus.OK && addressResponse.getBody() != null) {
-                response.setAddress(addressResponse.getBody());
+        // Step 3: Combine data
+        EmployeeWithAddressResponse response = new EmployeeWithAddressResponse();
+        response.setEmployee(employeeResponse);
+        response.setAddress(addressResponse);
+        return response;
+    }
+
+    // What the address will look like once the outbox has sent it; the Address service assigns its own id
+    private AddressResponse pendingAddress(int id, AddressRequest addressRequest) {
+        AddressResponse addressResponse = new AddressResponse();
+        addressResponse.setEmployeeId(id);
+        addressResponse.setLane_1(addressRequest.getLane_1());
+        addressResponse.setLane_2(addressRequest.getLane_2());
+        addressResponse.setState(addressRequest.getState());
+        addressResponse.setZip(addressRequest.getZip());
+        return addressResponse;
+    }
+
+    // The search index only ever reflects committed rows
+    private void indexAfterCommit(List<EmployeeResponse> employees) {
+        afterCommit(() -> employees.forEach(employee -> searchIndex.put(employee.getId(), employee.getName(), employee.getEmail())));
+    }
+
+    // Runs the change once the current transaction commits, or at once when there is none (the repository call has committed)
+    private void afterCommit(Runnable change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            change.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                change.run();
             }
-            
-            return response;
-        } catch (Exception e) {
-            // Handle error - Address service might be down
-            System.err.println("Error calling Address service: " + e.getMessage());
-            EmployeeWithAddressResponse response = new EmployeeWithAddressResponse();
-            response.setEmployee(employeeResponse);
-            response.setAddress(null); // Address not available
-            return response;
+        });
+    }
+
+    // In async mode start the task now on the executor; otherwise run it when the result is asked for
+    private <T> Supplier<T> fork(Supplier<T> task) {
+        if (!asyncEnabled) {
+            return task;
+        }
+        CompletableFuture<T> future = CompletableFuture.supplyAsync(task, taskExecutor);
+        return future::join;
+    }
+
+    /**
+     * Get all employees with their addresses using one batched call to the Address microservice
+     * @return Combined employee and address data for every employee
+     */
+    public List<EmployeeWithAddressResponse> getAllEmployeesWithAddress() {
+        // Step 1: Get all employees from own database
+        List<Employee> employees = employeeRepo.findAll();
+        if (employees.isEmpty()) {
+            return List.of();
         }
+
+        // Step 2: Fetch every address in a single call (cached ones are served locally)
+        List<Integer> ids = employees.stream()
+                .map(Employee::getId)
+                .collect(Collectors.toList());
+        Map<Integer, AddressResponse> addresses = addressClient.getAddresses(ids);
+
+        // Step 3: Combine data
+        return employees.stream()
+                .map(employee -> {
+                    EmployeeWithAddressResponse response = new EmployeeWithAddressResponse();
+                    response.setEmployee(employeeMapper.toResponse(employee));
+                    response.setAddress(addresses.get(employee.getId()));
+                    return response;
+                })
+                .collect(Collectors.toList());
     }
 
-}
\ No newline at end of file
+}
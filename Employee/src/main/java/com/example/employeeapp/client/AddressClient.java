@@ -0,0 +1,155 @@
+package com.example.employeeapp.client;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+
+import com.example.employeeapp.EmployeeResponse.AddressRequest;
+import com.example.employeeapp.EmployeeResponse.AddressResponse;
+
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.annotation.Bulkhead;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
+
+/**
+ * Calls to the Address microservice, over whichever AddressTransport address.client.transport selects.
+ * Reads go through the local "addresses" cache; writes made from this service refresh or evict the entry.
+ * Every remote call runs inside the "address" circuit breaker and bulkhead (resilience4j.* properties),
+ * so a slow or failing Address service is cut off instead of holding Employee threads.
+ * Failures and rejections are logged and reported as null (or whatever the cache holds) so callers can still return the employee.
+ */
+@Component
+public class AddressClient {
+
+    public static final String ADDRESS_CACHE = "addresses";
+    public static final String RESILIENCE_INSTANCE = "address";
+
+    private static final Logger log = LoggerFactory.getLogger(AddressClient.class);
+
+    @Autowired
+    private AddressTransport addressTransport;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    // Get address; null if missing or the service is unavailable
+    @Cacheable(cacheNames = ADDRESS_CACHE, key = "#id", unless = "#result == null")
+    @CircuitBreaker(name = RESILIENCE_INSTANCE, fallbackMethod = "getAddressFallback")
+    @Bulkhead(name = RESILIENCE_INSTANCE)
+    public AddressResponse getAddress(int id) {
+        return addressTransport.getAddress(id);
+    }
+
+    /**
+     * Get many addresses: cached entries are served locally, the rest in one batch call
+     * @param ids Employee IDs
+     * @return Addresses by employee ID; missing or unavailable ones are absent
+     */
+    @CircuitBreaker(name = RESILIENCE_INSTANCE, fallbackMethod = "getAddressesFallback")
+    @Bulkhead(name = RESILIENCE_INSTANCE)
+    public Map<Integer, AddressResponse> getAddresses(List<Integer> ids) {
+        Map<Integer, AddressResponse> addressesById = new HashMap<>();
+        List<Integer> missing = new ArrayList<>();
+        readCache(ids, addressesById, missing);
+        if (missing.isEmpty()) {
+            return addressesById;
+        }
+
+        Cache cache = cacheManager.getCache(ADDRESS_CACHE);
+        addressTransport.getAddresses(missing).forEach(address -> {
+            addressesById.put(address.getEmployeeId(), address);
+            if (cache != null) {
+                cache.put(address.getEmployeeId(), address);
+            }
+        });
+        return addressesById;
+    }
+
+    // Upsert address in one round trip; null if it could not be stored (the cached entry is dropped either way)
+    @CacheEvict(cacheNames = ADDRESS_CACHE, key = "#id", beforeInvocation = true)
+    @CachePut(cacheNames = ADDRESS_CACHE, key = "#id", unless = "#result == null")
+    @CircuitBreaker(name = RESILIENCE_INSTANCE, fallbackMethod = "updateAddressFallback")
+    @Bulkhead(name = RESILIENCE_INSTANCE)
+    public AddressResponse updateAddress(int id, AddressRequest addressRequest) {
+        return addressTransport.upsertAddress(id, addressRequest);
+    }
+
+    // Delete many addresses in one call; false if the call failed (failures are logged)
+    @CircuitBreaker(name = RESILIENCE_INSTANCE, fallbackMethod = "deleteAddressesFallback")
+    @Bulkhead(name = RESILIENCE_INSTANCE)
+    public boolean deleteAddresses(List<Integer> ids) {
+        Cache cache = cacheManager.getCache(ADDRESS_CACHE);
+        if (cache != null) {
+            ids.forEach(cache::evict);
+        }
+        addressTransport.deleteAddresses(ids);
+        return true;
+    }
+
+    // Fallbacks - run when the call failed, the breaker is open or the bulkhead is full
+
+    private AddressResponse getAddressFallback(int id, Throwable t) {
+        logFailure("getting address " + id, t);
+        return null;
+    }
+
+    // Serve whatever the cache still holds; the rest stay absent
+    private Map<Integer, AddressResponse> getAddressesFallback(List<Integer> ids, Throwable t) {
+        logFailure("getting addresses", t);
+        Map<Integer, AddressResponse> addressesById = new HashMap<>();
+        readCache(ids, addressesById, new ArrayList<>());
+        return addressesById;
+    }
+
+    private AddressResponse updateAddressFallback(int id, AddressRequest addressRequest, Throwable t) {
+        logFailure("updating address " + id, t);
+        return null;
+    }
+
+    private boolean deleteAddressesFallback(List<Integer> ids, Throwable t) {
+        logFailure("deleting " + ids.size() + " addresses", t);
+        // Evict here too, the call may have been rejected before the cache was touched
+        Cache cache = cacheManager.getCache(ADDRESS_CACHE);
+        if (cache != null) {
+            ids.forEach(cache::evict);
+        }
+        return false;
+    }
+
+    private void readCache(List<Integer> ids, Map<Integer, AddressResponse> found, List<Integer> missing) {
+        Cache cache = cacheManager.getCache(ADDRESS_CACHE);
+        for (Integer id : ids) {
+            AddressResponse cached = cache != null ? cache.get(id, AddressResponse.class) : null;
+            if (cached != null) {
+                found.put(id, cached);
+            } else {
+                missing.add(id);
+            }
+        }
+    }
+
+    // 404s are expected answers, and rejections while the breaker is open would flood the log
+    private void logFailure(String action, Throwable t) {
+        if (t instanceof HttpClientErrorException.NotFound) {
+            return;
+        }
+        if (t instanceof CallNotPermittedException || t instanceof BulkheadFullException) {
+            log.debug("Address service call rejected while {}: {}", action, t.getMessage());
+            return;
+        }
+        log.warn("Error calling Address service while {}: {}", action, t.getMessage());
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.employeeapp.client;
+
+import java.util.List;
+
+import com.example.employeeapp.EmployeeResponse.AddressRequest;
+import com.example.employeeapp.EmployeeResponse.AddressResponse;
+
+/**
+ * Wire protocol for the calls AddressClient makes to the Address service.
+ * AddressClient keeps the cache, circuit breaker and bulkhead; a transport only moves the data.
+ * Picked with address.client.transport: http (REST/JSON, the default) or grpc (Protobuf over HTTP/2).
+ * Addresses are looked up by the id of the employee they belong to, not by address id.
+ * Failures are thrown so the circuit breaker sees them.
+ */
+public interface AddressTransport {
+
+    // null when the employee has no address
+    AddressResponse getAddress(int employeeId);
+
+    // Addresses found; employees without one are simply absent
+    List<AddressResponse> getAddresses(List<Integer> employeeIds);
+
+    // Update the employee's address, or create it when the employee has none
+    AddressResponse upsertAddress(int employeeId, AddressRequest addressRequest);
+
+    // Employees without an address are ignored
+    void deleteAddresses(List<Integer> employeeIds);
+}
@@ -0,0 +1,141 @@
+package com.example.employeeapp.client;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.Address.grpc.Address;
+import com.Address.grpc.AddressServiceGrpc;
+import com.Address.grpc.Addresses;
+import com.Address.grpc.EmployeeId;
+import com.Address.grpc.EmployeeIds;
+import com.Address.grpc.UpsertAddressRequest;
+import com.example.employeeapp.EmployeeResponse.AddressRequest;
+import com.example.employeeapp.EmployeeResponse.AddressResponse;
+import com.example.employeeapp.config.AddressClientProperties;
+
+import io.grpc.ManagedChannel;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.stub.StreamObserver;
+
+/**
+ * Protobuf calls to the Address service's gRPC endpoint over the shared HTTP/2 channel (see GrpcClientConfig).
+ * Every call carries a deadline of address.client.read-timeout.
+ */
+@Component
+@ConditionalOnProperty(name = "address.client.transport", havingValue = "grpc")
+public class GrpcAddressTransport implements AddressTransport {
+
+    private final AddressServiceGrpc.AddressServiceBlockingStub blockingStub;
+    private final AddressServiceGrpc.AddressServiceStub asyncStub;
+    private final long deadlineMillis;
+    private final int batchSize;
+
+    public GrpcAddressTransport(ManagedChannel addressChannel, AddressClientProperties properties) {
+        this.blockingStub = AddressServiceGrpc.newBlockingStub(addressChannel);
+        this.asyncStub = AddressServiceGrpc.newStub(addressChannel);
+        this.deadlineMillis = properties.getReadTimeout().toMillis();
+        this.batchSize = properties.getGrpcBatchSize();
+    }
+
+    @Override
+    public AddressResponse getAddress(int employeeId) {
+        try {
+            return toResponse(blockingStub()
+                    .getAddress(EmployeeId.newBuilder().setEmployeeId(employeeId).build()));
+        } catch (StatusRuntimeException e) {
+            if (e.getStatus().getCode() == Status.Code.NOT_FOUND) {
+                return null;
+            }
+            throw e;
+        }
+    }
+
+    // Streams the ids in batches of address.client.grpc-batch-size on one call; the server answers each batch as it arrives
+    @Override
+    public List<AddressResponse> getAddresses(List<Integer> employeeIds) {
+        List<AddressResponse> found = new ArrayList<>(employeeIds.size());
+        CompletableFuture<List<AddressResponse>> done = new CompletableFuture<>();
+        StreamObserver<EmployeeIds> requests = asyncStub
+                .withDeadlineAfter(deadlineMillis, TimeUnit.MILLISECONDS)
+                .getAddresses(new StreamObserver<>() {
+                    // gRPC delivers the callbacks of one call one at a time
+                    @Override
+                    public void onNext(Addresses batch) {
+                        batch.getAddressesList().forEach(address -> found.add(toResponse(address)));
+                    }
+
+                    @Override
+                    public void onError(Throwable t) {
+                        done.completeExceptionally(t);
+                    }
+
+                    @Override
+                    public void onCompleted() {
+                        done.complete(found);
+                    }
+                });
+        try {
+            for (int from = 0; from < employeeIds.size(); from += batchSize) {
+                requests.onNext(EmployeeIds.newBuilder()
+                        .addAllEmployeeIds(employeeIds.subList(from, Math.min(from + batchSize, employeeIds.size())))
+                        .build());
+            }
+            requests.onCompleted();
+        } catch (RuntimeException e) {
+            requests.onError(e);
+            throw e;
+        }
+        try {
+            return done.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+
+    @Override
+    public AddressResponse upsertAddress(int employeeId, AddressRequest addressRequest) {
+        UpsertAddressRequest.Builder request = UpsertAddressRequest.newBuilder()
+                .setEmployeeId(employeeId)
+                .setZip(addressRequest.getZip());
+        if (addressRequest.getLane_1() != null) {
+            request.setLane1(addressRequest.getLane_1());
+        }
+        if (addressRequest.getLane_2() != null) {
+            request.setLane2(addressRequest.getLane_2());
+        }
+        if (addressRequest.getState() != null) {
+            request.setState(addressRequest.getState());
+        }
+        return toResponse(blockingStub().upsertAddress(request.build()));
+    }
+
+    @Override
+    public void deleteAddresses(List<Integer> employeeIds) {
+        blockingStub().deleteAddresses(EmployeeIds.newBuilder().addAllEmployeeIds(employeeIds).build());
+    }
+
+    // Deadlines are absolute, so each call needs a fresh stub
+    private AddressServiceGrpc.AddressServiceBlockingStub blockingStub() {
+        return blockingStub.withDeadlineAfter(deadlineMillis, TimeUnit.MILLISECONDS);
+    }
+
+    // Absent optional strings stand for null
+    private static AddressResponse toResponse(Address address) {
+        AddressResponse addressResponse = new AddressResponse();
+        addressResponse.setAddressId(address.getAddressId());
+        addressResponse.setEmployeeId(address.hasEmployeeId() ? address.getEmployeeId() : null);
+        addressResponse.setLane_1(address.hasLane1() ? address.getLane1() : null);
+        addressResponse.setLane_2(address.hasLane2() ? address.getLane2() : null);
+        addressResponse.setState(address.hasState() ? address.getState() : null);
+        addressResponse.setZip(address.getZip());
+        addressResponse.setVersion(address.getVersion());
+        return addressResponse;
+    }
+}
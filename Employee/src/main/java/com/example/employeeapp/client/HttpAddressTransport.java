@@ -0,0 +1,135 @@
+package com.example.employeeapp.client;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestTemplate;
+
+import com.example.employeeapp.EmployeeResponse.AddressRequest;
+import com.example.employeeapp.EmployeeResponse.AddressResponse;
+import com.example.employeeapp.config.AddressClientProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * REST/JSON calls to the Address service through the pooled RestTemplate (see RestTemplateConfig).
+ * Single-address reads are conditional: the last body and ETag per employee are kept, and when
+ * AddressClient's cache has let the entry go the refetch sends If-None-Match, so an unchanged
+ * address costs a 304 with no body.
+ */
+@Component
+@ConditionalOnProperty(name = "address.client.transport", havingValue = "http", matchIfMissing = true)
+public class HttpAddressTransport implements AddressTransport {
+
+    // Relative to address.client.base-url, which is the RestTemplate root URI; kept as templates so
+    // http.client.requests is tagged per endpoint rather than per employee id
+    private static final String ADDRESS_SERVICE_URL = "/address/employee/{employeeId}";
+    private static final String ADDRESS_SERVICE_BATCH_URL = "/address/employee/batch";
+    private static final String ADDRESS_SERVICE_BULK_URL = "/address/employee/bulk";
+
+    private final RestTemplate restTemplate;
+    private final int batchSize;
+    private final Cache<Integer, Tagged> lastSeen;
+
+    private record Tagged(String etag, AddressResponse address) {
+    }
+
+    public HttpAddressTransport(RestTemplate restTemplate, AddressClientProperties properties) {
+        this.restTemplate = restTemplate;
+        this.batchSize = properties.getBatchSize();
+        this.lastSeen = Caffeine.newBuilder()
+                .maximumSize(properties.getRevalidationCacheSize())
+                .build();
+    }
+
+    @Override
+    public AddressResponse getAddress(int employeeId) {
+        Tagged previous = lastSeen.getIfPresent(employeeId);
+        HttpHeaders headers = new HttpHeaders();
+        if (previous != null) {
+            headers.setIfNoneMatch(previous.etag());
+        }
+        ResponseEntity<AddressResponse> addressResponse;
+        try {
+            addressResponse = restTemplate.exchange(
+                ADDRESS_SERVICE_URL,
+                HttpMethod.GET,
+                new HttpEntity<>(headers),
+                AddressResponse.class,
+                employeeId
+            );
+        } catch (HttpClientErrorException.NotFound e) {
+            lastSeen.invalidate(employeeId);
+            return null;
+        }
+        
+        if (addressResponse.getStatusCode() == HttpStatus.NOT_MODIFIED && previous != null) {
+            return previous.address();
+        }
+        AddressResponse address = addressResponse.getBody();
+        if (addressResponse.getStatusCode() == HttpStatus.OK && address != null) {
+            String etag = addressResponse.getHeaders().getETag();
+            if (etag != null) {
+                lastSeen.put(employeeId, new Tagged(etag, address));
+            }
+            return address;
+        }
+        return null;
+    }
+
+    // One POST per address.client.batch-size ids
+    @Override
+    public List<AddressResponse> getAddresses(List<Integer> employeeIds) {
+        List<AddressResponse> found = new ArrayList<>(employeeIds.size());
+        for (int from = 0; from < employeeIds.size(); from += batchSize) {
+            ResponseEntity<AddressResponse[]> addressResponse = restTemplate.postForEntity(
+                ADDRESS_SERVICE_BATCH_URL,
+                employeeIds.subList(from, Math.min(from + batchSize, employeeIds.size())),
+                AddressResponse[].class
+            );
+
+            if (addressResponse.getStatusCode() == HttpStatus.OK && addressResponse.getBody() != null) {
+                found.addAll(Arrays.asList(addressResponse.getBody()));
+            }
+        }
+        return found;
+    }
+
+    @Override
+    public AddressResponse upsertAddress(int employeeId, AddressRequest addressRequest) {
+        ResponseEntity<AddressResponse> storedAddress = restTemplate.exchange(
+            ADDRESS_SERVICE_URL,
+            HttpMethod.PUT,
+            new HttpEntity<>(addressRequest),
+            AddressResponse.class,
+            employeeId
+        );
+        
+        if (storedAddress.getStatusCode().is2xxSuccessful() && storedAddress.getBody() != null) {
+            return storedAddress.getBody();
+        }
+        return null;
+    }
+
+    @Override
+    public void deleteAddresses(List<Integer> employeeIds) {
+        lastSeen.invalidateAll(employeeIds);
+        for (int from = 0; from < employeeIds.size(); from += batchSize) {
+            restTemplate.exchange(
+                ADDRESS_SERVICE_BULK_URL,
+                HttpMethod.DELETE,
+                new HttpEntity<>(employeeIds.subList(from, Math.min(from + batchSize, employeeIds.size()))),
+                Void.class
+            );
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.example.employeeapp.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Connection settings for calls from this service to the Address service,
+ * bound from the address.client.* properties.
+ */
+@ConfigurationProperties(prefix = "address.client")
+public class AddressClientProperties {
+
+    public enum Transport { HTTP, GRPC }
+
+    // REST/JSON to base-url, or Protobuf over HTTP/2 to grpc-target
+    private Transport transport = Transport.HTTP;
+
+    private String baseUrl = "http://localhost:8089";
+    private int maxConnectionsTotal = 200;
+    private int maxConnectionsPerRoute = 100;
+    private Duration connectTimeout = Duration.ofSeconds(1);
+    private Duration readTimeout = Duration.ofSeconds(3);
+    // How long a caller may wait for a free pooled connection before failing
+    private Duration connectionRequestTimeout = Duration.ofMillis(500);
+    private Duration keepAlive = Duration.ofSeconds(30);
+    // Use the JDK client over HTTP/2 (multiplexed, so no per-route pool) instead of pooled HTTP/1.1
+    private boolean http2 = false;
+    private String grpcTarget = "localhost:9090";
+    // Ids per message when a batch lookup is streamed over gRPC
+    private int grpcBatchSize = 500;
+    // Ids per batch request over HTTP; the Address service turns each into IN lists, which MySQL caps at 65,535 placeholders
+    private int batchSize = 500;
+    // Address bodies kept with their ETag over HTTP, so a refetch after the cache entry expires can be a 304
+    private int revalidationCacheSize = 10_000;
+
+    public Transport getTransport() {
+        return transport;
+    }
+
+    public void setTransport(Transport transport) {
+        this.transport = transport;
+    }
+
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+
+    public void setBaseUrl(String baseUrl) {
+        this.baseUrl = baseUrl;
+    }
+
+    public int getMaxConnectionsTotal() {
+        return maxConnectionsTotal;
+    }
+
+    public void setMaxConnectionsTotal(int maxConnectionsTotal) {
+        this.maxConnectionsTotal = maxConnectionsTotal;
+    }
+
+    public int getMaxConnectionsPerRoute() {
+        return maxConnectionsPerRoute;
+    }
+
+    public void setMaxConnectionsPerRoute(int maxConnectionsPerRoute) {
+        this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+    }
+
+    public Duration getConnectTimeout() {
+        return connectTimeout;
+    }
+
+    public void setConnectTimeout(Duration connectTimeout) {
+        this.connectTimeout = connectTimeout;
+    }
+
+    public Duration getReadTimeout() {
+        return readTimeout;
+    }
+
+    public void setReadTimeout(Duration readTimeout) {
+        this.readTimeout = readTimeout;
+    }
+
+    public Duration getConnectionRequestTimeout() {
+        return connectionRequestTimeout;
+    }
+
+    public void setConnectionRequestTimeout(Duration connectionRequestTimeout) {
+        this.connectionRequestTimeout = connectionRequestTimeout;
+    }
+
+    public Duration getKeepAlive() {
+        return keepAlive;
+    }
+
+    public void setKeepAlive(Duration keepAlive) {
+        this.keepAlive = keepAlive;
+    }
+
+    public boolean isHttp2() {
+        return http2;
+    }
+
+    public void setHttp2(boolean http2) {
+        this.http2 = http2;
+    }
+
+    public String getGrpcTarget() {
+        return grpcTarget;
+    }
+
+    public void setGrpcTarget(String grpcTarget) {
+        this.grpcTarget = grpcTarget;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public int getGrpcBatchSize() {
+        return grpcBatchSize;
+    }
+
+    public void setGrpcBatchSize(int grpcBatchSize) {
+        this.grpcBatchSize = grpcBatchSize;
+    }
+
+    public int getRevalidationCacheSize() {
+        return revalidationCacheSize;
+    }
+
+    public void setRevalidationCacheSize(int revalidationCacheSize) {
+        this.revalidationCacheSize = revalidationCacheSize;
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.employeeapp.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Enables the local Caffeine caches configured under spring.cache.*.
+ * Caffeine evicts with W-TinyLFU once maximumSize is reached; recordStats feeds
+ * the cache.gets / cache.evictions / cache.size metrics in Actuator.
+ * The cache advice runs outermost, so hits are served even while the Address circuit breaker is open.
+ */
+@Configuration
+@EnableCaching(order = Ordered.HIGHEST_PRECEDENCE)
+public class CacheConfig {
+}
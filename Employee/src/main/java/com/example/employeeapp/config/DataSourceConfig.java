@@ -0,0 +1,73 @@
+package com.example.employeeapp.config;
+
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.example.employeeapp.datasource.RecentWrites;
+import com.example.employeeapp.datasource.ReplicaRoutingDataSource;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * The JDBC pools, declared here for every profile (Boot skips its own DataSource once the reactive
+ * profile adds an R2DBC ConnectionFactory).
+ * Sizing, leak detection and the MySQL driver's statement cache are set under spring.datasource.hikari.*;
+ * each pool publishes hikaricp.connections.* tagged with its pool name, where acquire is the time spent
+ * waiting for a connection and usage the time one is held.
+ * With employee.datasource.replica.url set, read-only transactions run on a second pool against the replica.
+ */
+@Configuration
+@EnableConfigurationProperties({ DataSourceProperties.class, ReplicaDataSourceProperties.class })
+public class DataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    // Started here rather than by the first read, which would open it inside Hikari's lazy-start lock
+    @Bean
+    @ConditionalOnProperty(prefix = "employee.datasource.replica", name = "url")
+    public HikariDataSource replicaDataSource(ReplicaDataSourceProperties properties, Environment environment) {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl(properties.getUrl());
+        config.setUsername(properties.getUsername());
+        config.setPassword(properties.getPassword());
+        Binder binder = Binder.get(environment);
+        binder.bind("spring.datasource.hikari", Bindable.ofInstance(config));
+        binder.bind("employee.datasource.replica.hikari", Bindable.ofInstance(config));
+        return new HikariDataSource(config);
+    }
+
+    // What JPA and JdbcTemplate use; the routing key is read when the first statement runs, not at getConnection()
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+            @Qualifier("replicaDataSource") ObjectProvider<DataSource> replica) {
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primary, replica.getIfAvailable(() -> primary));
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    @Bean
+    public RecentWrites recentWrites(ReplicaDataSourceProperties properties) {
+        return new RecentWrites(properties.getUrl() == null ? Duration.ZERO : properties.getReadYourWritesWindow());
+    }
+}
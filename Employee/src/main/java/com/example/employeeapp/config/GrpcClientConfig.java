@@ -0,0 +1,28 @@
+package com.example.employeeapp.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.grpc.Grpc;
+import io.grpc.InsecureChannelCredentials;
+import io.grpc.ManagedChannel;
+import io.micrometer.core.instrument.binder.grpc.ObservationGrpcClientInterceptor;
+import io.micrometer.observation.ObservationRegistry;
+
+/**
+ * Channel to the Address service's gRPC endpoint when address.client.transport=grpc.
+ * One HTTP/2 connection multiplexes every concurrent call, so there is no pool to size.
+ * Calls are timed as grpc.client and carry the caller's trace context in their metadata.
+ */
+@Configuration
+@ConditionalOnProperty(name = "address.client.transport", havingValue = "grpc")
+public class GrpcClientConfig {
+
+    @Bean(destroyMethod = "shutdownNow")
+    public ManagedChannel addressChannel(AddressClientProperties properties, ObservationRegistry observationRegistry) {
+        return Grpc.newChannelBuilder(properties.getGrpcTarget(), InsecureChannelCredentials.create())
+                .intercept(new ObservationGrpcClientInterceptor(observationRegistry))
+                .build();
+    }
+}
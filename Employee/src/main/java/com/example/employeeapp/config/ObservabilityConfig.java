@@ -0,0 +1,20 @@
+package com.example.employeeapp.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.core.task.support.ContextPropagatingTaskDecorator;
+
+/**
+ * Request metrics, traces and the Prometheus endpoint come from Actuator (management.* properties);
+ * this only fills the gap Boot leaves for work handed to another thread.
+ */
+@Configuration
+public class ObservabilityConfig {
+
+    // Boot applies this to applicationTaskExecutor, so the Address lookup EmployeeService forks stays in the caller's trace
+    @Bean
+    public TaskDecorator contextPropagatingTaskDecorator() {
+        return new ContextPropagatingTaskDecorator();
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.employeeapp.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * The read replica, bound from the employee.datasource.replica.* properties.
+ * Pool and driver settings are taken from spring.datasource.hikari.* and can be overridden
+ * under employee.datasource.replica.hikari.*.
+ */
+@ConfigurationProperties(prefix = "employee.datasource.replica")
+public class ReplicaDataSourceProperties {
+
+    // JDBC URL of the replica; without one read-only transactions use the primary as well
+    private String url;
+    private String username;
+    private String password;
+    // Reads of an id this instance wrote within this long go to the primary (0 turns it off)
+    private Duration readYourWritesWindow = Duration.ofSeconds(2);
+
+    public String getUrl() {
+        return url;
+    }
+
+    public void setUrl(String url) {
+        this.url = url;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public void setUsername(String username) {
+        this.username = username;
+    }
+
+    public String getPassword() {
+        return password;
+    }
+
+    public void setPassword(String password) {
+        this.password = password;
+    }
+
+    public Duration getReadYourWritesWindow() {
+        return readYourWritesWindow;
+    }
+
+    public void setReadYourWritesWindow(Duration readYourWritesWindow) {
+        this.readYourWritesWindow = readYourWritesWindow;
+    }
+}
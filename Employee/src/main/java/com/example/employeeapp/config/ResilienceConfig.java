@@ -0,0 +1,32 @@
+package com.example.employeeapp.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.example.employeeapp.client.AddressClient;
+
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Extra metrics for the Address circuit breaker and bulkhead.
+ * resilience4j-micrometer already publishes resilience4j.circuitbreaker.state / .calls / .not.permitted.calls
+ * and the bulkhead gauges; the bulkhead has no rejection count of its own, so one is added here.
+ */
+@Configuration
+public class ResilienceConfig {
+
+    @Bean
+    public MeterBinder addressBulkheadRejections(BulkheadRegistry bulkheadRegistry) {
+        return registry -> {
+            Counter rejected = Counter.builder("resilience4j.bulkhead.rejected.calls")
+                    .description("Calls rejected because the bulkhead was full")
+                    .tag("name", AddressClient.RESILIENCE_INSTANCE)
+                    .register(registry);
+            bulkheadRegistry.bulkhead(AddressClient.RESILIENCE_INSTANCE)
+                    .getEventPublisher()
+                    .onCallRejected(event -> rejected.increment());
+        };
+    }
+}
@@ -1,15 +1,96 @@
 package com.example.employeeapp.config;
 
+import java.net.http.HttpClient;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.DefaultConnectionKeepAliveStrategy;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+
 @Configuration
+@EnableConfigurationProperties(AddressClientProperties.class)
 public class RestTemplateConfig {
-    
+
+    // Only the HTTP/1.1 client pools through Apache HttpClient; the HTTP/2 client multiplexes over its own connections
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "address.client.http2", havingValue = "false", matchIfMissing = true)
+    public PoolingHttpClientConnectionManager addressConnectionManager(AddressClientProperties properties) {
+        ConnectionConfig connectionConfig = ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.of(properties.getConnectTimeout()))
+                .setSocketTimeout(Timeout.of(properties.getReadTimeout()))
+                .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+                .build();
+        return PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(properties.getMaxConnectionsTotal())
+                .setMaxConnPerRoute(properties.getMaxConnectionsPerRoute())
+                .setDefaultConnectionConfig(connectionConfig)
+                .build();
+    }
+
+    // Publishes httpcomponents.httpclient.pool.* gauges (leased, available, pending, max) to Actuator
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    @ConditionalOnProperty(name = "address.client.http2", havingValue = "false", matchIfMissing = true)
+    public MeterBinder addressConnectionPoolMetrics(PoolingHttpClientConnectionManager addressConnectionManager) {
+        return new PoolingHttpClientConnectionManagerMetricsBinder(addressConnectionManager, "address");
     }
-}
 
+    @Bean
+    public RestTemplate restTemplate(RestTemplateBuilder builder, AddressClientProperties properties,
+            ObjectProvider<PoolingHttpClientConnectionManager> addressConnectionManager) {
+        ClientHttpRequestFactory requestFactory = properties.isHttp2()
+                ? http2RequestFactory(properties)
+                : pooledRequestFactory(properties, addressConnectionManager.getObject());
+        return builder.rootUri(properties.getBaseUrl())
+                .requestFactory(() -> requestFactory)
+                .build();
+    }
+
+    private ClientHttpRequestFactory pooledRequestFactory(AddressClientProperties properties,
+            PoolingHttpClientConnectionManager connectionManager) {
+        TimeValue maxKeepAlive = TimeValue.of(properties.getKeepAlive().toMillis(), TimeUnit.MILLISECONDS);
+        RequestConfig requestConfig = RequestConfig.custom()
+                .setConnectionRequestTimeout(Timeout.of(properties.getConnectionRequestTimeout()))
+                .setResponseTimeout(Timeout.of(properties.getReadTimeout()))
+                .build();
+        CloseableHttpClient httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(requestConfig)
+                // Honour the server's Keep-Alive hint but never hold a connection longer than configured
+                .setKeepAliveStrategy((response, context) -> DefaultConnectionKeepAliveStrategy.INSTANCE
+                        .getKeepAliveDuration(response, context)
+                        .min(maxKeepAlive))
+                .evictExpiredConnections()
+                .evictIdleConnections(maxKeepAlive)
+                .build();
+        return new HttpComponentsClientHttpRequestFactory(httpClient);
+    }
+
+    private ClientHttpRequestFactory http2RequestFactory(AddressClientProperties properties) {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(properties.getConnectTimeout())
+                .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(properties.getReadTimeout());
+        return requestFactory;
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.employeeapp.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables @Scheduled background jobs such as the address outbox dispatcher.
+ * employee.scheduling.enabled=false leaves them to be run by hand (the tests do, since every test
+ * context shares one database and would otherwise race for the same outbox rows).
+ */
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "employee.scheduling.enabled", havingValue = "true", matchIfMissing = true)
+public class SchedulingConfig {
+}
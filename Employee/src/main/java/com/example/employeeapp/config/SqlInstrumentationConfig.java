@@ -0,0 +1,60 @@
+package com.example.employeeapp.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.example.employeeapp.sql.HibernateStatisticsEndpoint;
+import com.example.employeeapp.sql.RequestQueryFilter;
+import com.example.employeeapp.sql.SqlStatementListener;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+
+/**
+ * Replaces spring.jpa.show-sql: the DataSource is wrapped so every statement is timed and checked
+ * without writing each one to stdout. See the sql package for what is measured.
+ */
+@Configuration
+@EnableConfigurationProperties(SqlInstrumentationProperties.class)
+public class SqlInstrumentationConfig {
+
+    // Static so wrapping the DataSource does not pull the rest of this configuration in early.
+    // Only the pools are wrapped, not the routing DataSource on top of them, so each statement is seen once.
+    @Bean
+    public static BeanPostProcessor sqlInstrumentingDataSourcePostProcessor(ObjectProvider<SqlStatementListener> listener) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof HikariDataSource dataSource)) {
+                    return bean;
+                }
+                return ProxyDataSourceBuilder.create(dataSource)
+                        .name(beanName)
+                        .listener(listener.getObject())
+                        .build();
+            }
+        };
+    }
+
+    @Bean
+    public SqlStatementListener sqlStatementListener(MeterRegistry meterRegistry, SqlInstrumentationProperties properties) {
+        return new SqlStatementListener(meterRegistry, properties.getSlowQueryThreshold().toNanos(),
+                properties.getSlowQueryLogQueueSize());
+    }
+
+    @Bean
+    public RequestQueryFilter requestQueryFilter(MeterRegistry meterRegistry, SqlInstrumentationProperties properties) {
+        return new RequestQueryFilter(meterRegistry, properties.getRepeatedSelectThreshold());
+    }
+
+    @Bean
+    public HibernateStatisticsEndpoint hibernateStatisticsEndpoint(EntityManagerFactory entityManagerFactory) {
+        return new HibernateStatisticsEndpoint(entityManagerFactory);
+    }
+}
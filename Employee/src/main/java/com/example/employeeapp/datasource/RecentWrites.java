@@ -0,0 +1,58 @@
+package com.example.employeeapp.datasource;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.function.Supplier;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Read-your-writes for the replica: ids this instance wrote within the window are read from the primary,
+ * so a caller never gets back an older row than the one it just saved. Other instances' writes are not
+ * tracked; a zero window turns this off.
+ */
+public class RecentWrites {
+
+    // Far more than are written within any sensible window; the oldest go first if it is ever reached
+    private static final long MAX_TRACKED_IDS = 100_000;
+
+    private final Cache<Integer, Boolean> ids;
+
+    public RecentWrites(Duration window) {
+        this.ids = window.isZero() ? null : Caffeine.newBuilder()
+                .expireAfterWrite(window)
+                .maximumSize(MAX_TRACKED_IDS)
+                .build();
+    }
+
+    public void record(int id) {
+        if (ids != null) {
+            ids.put(id, Boolean.TRUE);
+        }
+    }
+
+    public void recordAll(Collection<Integer> written) {
+        if (ids != null) {
+            written.forEach(id -> ids.put(id, Boolean.TRUE));
+        }
+    }
+
+    // True while reads of the id are pinned to the primary
+    public boolean isRecent(int id) {
+        return ids != null && ids.getIfPresent(id) != null;
+    }
+
+    /**
+     * Run a read of one id, on the primary if this instance wrote that id within the window
+     * @param id The id being read
+     * @param read The read to run
+     * @return Its result
+     */
+    public <T> T read(int id, Supplier<T> read) {
+        if (!isRecent(id)) {
+            return read.get();
+        }
+        return ReplicaRoutingDataSource.onPrimary(read);
+    }
+}
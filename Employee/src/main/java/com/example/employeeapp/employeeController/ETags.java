@@ -0,0 +1,80 @@
+package com.example.employeeapp.employeeController;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+import org.springframework.util.DigestUtils;
+
+import com.example.employeeapp.EmployeeResponse.AddressResponse;
+
+/**
+ * ETags built from the version column rather than by hashing the response body.
+ * A single employee's tag is its id and version, "<id>-<version>", so no two rows share a tag even at the
+ * same version; a list's tag is a digest of the id and version of every row, so an insert, update or delete
+ * of any row in it changes the tag. A sparse fieldset is a different representation of the same rows and is
+ * tagged as such.
+ * Row tags are strong. List tags are weak: the same tag goes out with the gzip and the identity encoding,
+ * and Tomcat only compresses responses without a strong ETag. If-None-Match compares weakly either way.
+ * Set on a 200 ResponseEntity, Spring MVC answers a matching If-None-Match with 304 and no body.
+ */
+final class ETags {
+
+    // If-Match version that no row has, so the conditional update fails with 412
+    static final long NO_VERSION = -1;
+
+    private ETags() {
+    }
+
+    /**
+     * The version an If-Match header asks an update of one employee to apply to
+     * @param ifMatch Header value, null when absent
+     * @param id Employee being updated
+     * @return The version of a strong tag for this employee; null for no header or "*", which leave the update
+     *         unconditional; NO_VERSION for anything else, as a weak, list or another row's tag never matches
+     */
+    static Long ifMatchVersion(String ifMatch, int id) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.strip().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.strip();
+        String row = "\"" + id + "-";
+        if (tag.length() > row.length() + 1 && tag.startsWith(row) && tag.endsWith("\"")) {
+            try {
+                return Long.parseLong(tag.substring(row.length(), tag.length() - 1));
+            } catch (NumberFormatException e) {
+                // a with-address or sparse-fieldset tag
+            }
+        }
+        return NO_VERSION;
+    }
+
+    // fields as returned by EmployeeFields.parse, null for the full representation
+    static String ofVersion(int id, long version, List<String> fields) {
+        return quote(id + "-" + version + suffix(fields));
+    }
+
+    // An employee together with its address, which is null when there is none
+    static String ofVersions(int id, long version, AddressResponse address) {
+        return quote(id + "-" + version + "-"
+                + (address != null ? address.getAddressId() + "-" + address.getVersion() : "none"));
+    }
+
+    static <T> String ofRows(List<T> rows, ToIntFunction<T> id, ToLongFunction<T> version, List<String> fields) {
+        StringBuilder versions = new StringBuilder(rows.size() * 12);
+        for (T row : rows) {
+            versions.append(id.applyAsInt(row)).append(':').append(version.applyAsLong(row)).append(',');
+        }
+        versions.append(suffix(fields));
+        return "W/" + quote(DigestUtils.md5DigestAsHex(versions.toString().getBytes(StandardCharsets.US_ASCII)));
+    }
+
+    private static String suffix(List<String> fields) {
+        return fields == null ? "" : "-" + String.join(".", fields);
+    }
+
+    private static String quote(String tag) {
+        return "\"" + tag + "\"";
+    }
+}
@@ -1,29 +1,55 @@
 package com.example.employeeapp.employeeController;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
+import java.util.Map;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.example.employeeapp.EmployeeResponse.EmployeeFields;
 import com.example.employeeapp.EmployeeResponse.EmployeeRequest;
 import com.example.employeeapp.EmployeeResponse.EmployeeResponse;
 import com.example.employeeapp.EmployeeResponse.EmployeeWithAddressResponse;
 import com.example.employeeapp.EmployeeService.EmployeeService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 @RestController
 public class EmployeeController {
 
+    private static final Logger log = LoggerFactory.getLogger(EmployeeController.class);
+
+    private static final int MAX_PAGE_SIZE = 1000;
+    private static final int MAX_SEARCH_RESULTS = 100;
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    private static final String NDJSON = "application/x-ndjson";
+    private static final String MERGE_PATCH_JSON = "application/merge-patch+json";
+
     @Autowired
     private EmployeeService employeeService;
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
     // Create - POST (with optional address)
     @PostMapping("/employee")
     public ResponseEntity<?> createEmployee(@RequestBody EmployeeRequest employeeRequest) {
@@ -48,7 +74,7 @@ public class EmployeeController {
                 return ResponseEntity.status(HttpStatus.CREATED).body(employeeResponse);
             }
         } catch (Exception e) {
-            e.printStackTrace();
+            log.error("createEmployee failed", e);
             // Return JSON error response
             String errorMessage = e.getMessage() != null ? e.getMessage() : "Unknown error occurred";
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -56,27 +82,132 @@ public class EmployeeController {
         }
     }
 
-    // Read - Get by ID
+    // Create - POST many in one transaction (employee fields only)
+    @PostMapping("/employee/bulk")
+    public ResponseEntity<?> createEmployees(@RequestBody List<EmployeeRequest> employeeRequests) {
+        try {
+            String error = validateBulk(employeeRequests);
+            if (error != null) {
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                        .body("{\"error\": \"" + error + "\"}");
+            }
+            List<EmployeeResponse> employees = employeeService.createEmployees(employeeRequests);
+            return ResponseEntity.status(HttpStatus.CREATED).body(employees);
+        } catch (Exception e) {
+            log.error("createEmployees failed", e);
+            String errorMessage = e.getMessage() != null ? e.getMessage() : "Unknown error occurred";
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body("{\"error\": \"" + errorMessage.replace("\"", "\\\"") + "\"}");
+        }
+    }
+
+    // Read - Get by ID; ?fields=name,email trims the response (the row itself usually comes from the cache).
+    // Tagged with the row version: If-None-Match with the current tag is answered 304 with no body
     @GetMapping("/employee/{id}")
-    public ResponseEntity<EmployeeResponse> getEmployeeDetails(@PathVariable int id) {
+    public ResponseEntity<?> getEmployeeDetails(
+            @PathVariable int id,
+            @RequestParam(value = "fields", required = false) List<String> fields) {
+        List<String> selected;
+        try {
+            selected = EmployeeFields.parse(fields);
+        } catch (IllegalArgumentException e) {
+            return badRequest(e);
+        }
         EmployeeResponse employeeResponse = employeeService.getEmployeeById(id);
         if (employeeResponse == null) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
         }
-        return ResponseEntity.status(HttpStatus.OK).body(employeeResponse);
+        String etag = ETags.ofVersion(id, employeeResponse.getVersion(), selected);
+        if (selected != null) {
+            return ResponseEntity.status(HttpStatus.OK).eTag(etag).body(EmployeeFields.select(employeeResponse, selected));
+        }
+        return ResponseEntity.status(HttpStatus.OK).eTag(etag).body(employeeResponse);
     }
 
-    // Read - Get All
+    // Read - Get All, optionally filtered (?bloodgroup=O-&bloodgroup=O+&email=...);
+    // keyset paged when limit is given: ?limit=100&after=<last id>;
+    // ?fields=name,email selects and returns only those columns (plus id and version).
+    // The ETag covers the id and version of every row returned, so an unchanged list is answered 304
     @GetMapping("/employee")
-    public ResponseEntity<List<EmployeeResponse>> getAllEmployees() {
+    public ResponseEntity<?> getAllEmployees(
+            @RequestParam(value = "limit", required = false) Integer limit,
+            @RequestParam(value = "after", defaultValue = "0") int after,
+            @RequestParam(value = "bloodgroup", required = false) List<String> bloodgroups,
+            @RequestParam(value = "email", required = false) String email,
+            @RequestParam(value = "fields", required = false) List<String> fields) {
+        List<String> selected;
+        try {
+            selected = EmployeeFields.parse(fields);
+        } catch (IllegalArgumentException e) {
+            return badRequest(e);
+        }
         try {
-            List<EmployeeResponse> employees = employeeService.getAllEmployees();
+            if (selected != null) {
+                return getEmployeeFields(selected, bloodgroups, email, after, limit);
+            }
+            boolean filtered = bloodgroups != null || email != null;
+            if (limit == null) {
+                List<EmployeeResponse> employees = filtered
+                        ? employeeService.findEmployees(bloodgroups, email, after, null)
+                        : employeeService.getAllEmployees();
+                return ResponseEntity.status(HttpStatus.OK).eTag(employeesETag(employees)).body(employees);
+            }
+            int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+            List<EmployeeResponse> employees = filtered
+                    ? employeeService.findEmployees(bloodgroups, email, after, pageSize)
+                    : employeeService.getEmployeesAfter(after, pageSize);
+            HttpHeaders headers = new HttpHeaders();
+            if (employees.size() == pageSize) {
+                headers.set(NEXT_CURSOR_HEADER, String.valueOf(employees.get(employees.size() - 1).getId()));
+            }
+            headers.setETag(employeesETag(employees));
+            return ResponseEntity.status(HttpStatus.OK).headers(headers).body(employees);
+        } catch (Exception e) {
+            log.error("getAllEmployees failed", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    // Read - Type-ahead search on name and email: ?q=jo&limit=10, trimmed with ?fields=name like the other reads
+    @GetMapping("/employee/search")
+    public ResponseEntity<?> searchEmployees(
+            @RequestParam("q") String query,
+            @RequestParam(value = "limit", defaultValue = "10") int limit,
+            @RequestParam(value = "fields", required = false) List<String> fields) {
+        List<String> selected;
+        try {
+            selected = EmployeeFields.parse(fields);
+        } catch (IllegalArgumentException e) {
+            return badRequest(e);
+        }
+        try {
+            List<EmployeeResponse> employees = employeeService.searchEmployees(query,
+                    Math.max(1, Math.min(limit, MAX_SEARCH_RESULTS)));
+            if (selected != null) {
+                return ResponseEntity.status(HttpStatus.OK).body(employees.stream()
+                        .map(employee -> EmployeeFields.select(employee, selected))
+                        .toList());
+            }
             return ResponseEntity.status(HttpStatus.OK).body(employees);
         } catch (Exception e) {
-            e.printStackTrace();
+            log.error("searchEmployees failed", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
+
+    // Read - Stream All as newline-delimited JSON, one row written as it is read
+    @GetMapping(value = "/employee/stream", produces = NDJSON)
+    public ResponseEntity<StreamingResponseBody> streamAllEmployees() {
+        StreamingResponseBody body = outputStream -> employeeService.streamAllEmployees(employee -> {
+            try {
+                outputStream.write(objectMapper.writeValueAsBytes(employee));
+                outputStream.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return ResponseEntity.status(HttpStatus.OK).body(body);
+    }
     
     /**
      * Get employee with address by calling Address microservice
@@ -89,34 +220,109 @@ public class EmployeeController {
         if (response == null) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
         }
-        return ResponseEntity.status(HttpStatus.OK).body(response);
+        // Changes with either the employee or its address (pollers get 304 while neither has)
+        String etag = ETags.ofVersions(id, response.getEmployee().getVersion(), response.getAddress());
+        return ResponseEntity.status(HttpStatus.OK).eTag(etag).body(response);
+    }
+
+    /**
+     * Get all employees with their addresses (one batched Address call instead of one per employee)
+     * @return Combined employee and address data
+     */
+    @GetMapping("/employee/with-address")
+    public ResponseEntity<List<EmployeeWithAddressResponse>> getAllEmployeesWithAddress() {
+        try {
+            List<EmployeeWithAddressResponse> employees = employeeService.getAllEmployeesWithAddress();
+            return ResponseEntity.status(HttpStatus.OK).body(employees);
+        } catch (Exception e) {
+            log.error("getAllEmployeesWithAddress failed", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
     }
 
-    // Update - PUT (with optional address update)
+    // Update - PUT (with optional address update); If-Match with the employee's ETag makes it conditional
     @PutMapping("/employee/{id}")
     public ResponseEntity<?> updateEmployee(
             @PathVariable int id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @RequestBody EmployeeRequest employeeRequest) {
+        Long expectedVersion = ETags.ifMatchVersion(ifMatch, id);
         try {
             // If address is provided, update employee with address
             if (employeeRequest.getAddress() != null) {
-                EmployeeWithAddressResponse response = employeeService.updateEmployeeWithAddress(id, employeeRequest);
+                EmployeeWithAddressResponse response = employeeService.updateEmployeeWithAddress(id, employeeRequest, expectedVersion);
                 if (response == null) {
                     return ResponseEntity.status(HttpStatus.NOT_FOUND)
                             .body("{\"error\": \"Employee not found\"}");
                 }
-                return ResponseEntity.status(HttpStatus.OK).body(response);
+                return ResponseEntity.status(HttpStatus.OK)
+                        .eTag(ETags.ofVersion(id, response.getEmployee().getVersion(), null))
+                        .body(response);
             } else {
                 // Update employee only
-                EmployeeResponse employeeResponse = employeeService.updateEmployee(id, employeeRequest);
+                EmployeeResponse employeeResponse = employeeService.updateEmployee(id, employeeRequest, expectedVersion);
                 if (employeeResponse == null) {
                     return ResponseEntity.status(HttpStatus.NOT_FOUND)
                             .body("{\"error\": \"Employee not found\"}");
                 }
-                return ResponseEntity.status(HttpStatus.OK).body(employeeResponse);
+                return ResponseEntity.status(HttpStatus.OK)
+                        .eTag(ETags.ofVersion(id, employeeResponse.getVersion(), null))
+                        .body(employeeResponse);
             }
+        } catch (OptimisticLockingFailureException e) {
+            return updateConflict(expectedVersion != null);
         } catch (Exception e) {
-            e.printStackTrace();
+            log.error("updateEmployee failed", e);
+            String errorMessage = e.getMessage() != null ? e.getMessage() : "Unknown error occurred";
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body("{\"error\": \"" + errorMessage.replace("\"", "\\\"") + "\"}");
+        }
+    }
+
+    // Partial update - PATCH with a JSON Merge Patch: {"email": "new@example.com"} changes the email and nothing else.
+    // Unlike PUT, fields left out keep their values; If-Match works as for PUT
+    @PatchMapping(value = "/employee/{id}", consumes = { MERGE_PATCH_JSON, MediaType.APPLICATION_JSON_VALUE })
+    public ResponseEntity<?> patchEmployee(
+            @PathVariable int id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestBody JsonNode patch) {
+        Long expectedVersion = ETags.ifMatchVersion(ifMatch, id);
+        try {
+            EmployeeResponse employeeResponse = employeeService.patchEmployee(id, patch, expectedVersion);
+            if (employeeResponse == null) {
+                return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body("{\"error\": \"Employee not found\"}");
+            }
+            return ResponseEntity.status(HttpStatus.OK)
+                    .eTag(ETags.ofVersion(id, employeeResponse.getVersion(), null))
+                    .body(employeeResponse);
+        } catch (IllegalArgumentException e) {
+            return badRequest(e);
+        } catch (OptimisticLockingFailureException e) {
+            return updateConflict(expectedVersion != null);
+        } catch (Exception e) {
+            log.error("patchEmployee failed", e);
+            String errorMessage = e.getMessage() != null ? e.getMessage() : "Unknown error occurred";
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body("{\"error\": \"" + errorMessage.replace("\"", "\\\"") + "\"}");
+        }
+    }
+
+    // Update - PUT many in one transaction, keyed by employee id: {"12": {...}, "13": {...}}
+    @PutMapping("/employee/bulk")
+    public ResponseEntity<?> updateEmployees(@RequestBody Map<Integer, EmployeeRequest> employeeRequests) {
+        try {
+            String error = validateBulk(List.copyOf(employeeRequests.values()));
+            if (error != null) {
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                        .body("{\"error\": \"" + error + "\"}");
+            }
+            List<EmployeeResponse> employees = employeeService.updateEmployees(employeeRequests);
+            return ResponseEntity.status(HttpStatus.OK).body(employees);
+        } catch (OptimisticLockingFailureException e) {
+            return updateConflict(false);
+        } catch (Exception e) {
+            log.error("updateEmployees failed", e);
             String errorMessage = e.getMessage() != null ? e.getMessage() : "Unknown error occurred";
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body("{\"error\": \"" + errorMessage.replace("\"", "\\\"") + "\"}");
@@ -134,10 +340,82 @@ public class EmployeeController {
             return ResponseEntity.status(HttpStatus.NOT_FOUND)
                     .body("{\"error\": \"Employee not found\"}");
         } catch (Exception e) {
-            e.printStackTrace();
+            log.error("deleteEmployee failed", e);
+            String errorMessage = e.getMessage() != null ? e.getMessage() : "Unknown error occurred";
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body("{\"error\": \"" + errorMessage.replace("\"", "\\\"") + "\"}");
+        }
+    }
+
+    // Delete - DELETE many (employees and their addresses); ids that do not exist are ignored
+    @DeleteMapping("/employee/bulk")
+    public ResponseEntity<?> deleteEmployees(@RequestBody List<Integer> ids) {
+        try {
+            if (ids != null && !ids.isEmpty()) {
+                employeeService.deleteEmployeesWithAddress(ids);
+            }
+            return ResponseEntity.status(HttpStatus.NO_CONTENT).build();
+        } catch (Exception e) {
+            log.error("deleteEmployees failed", e);
             String errorMessage = e.getMessage() != null ? e.getMessage() : "Unknown error occurred";
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body("{\"error\": \"" + errorMessage.replace("\"", "\\\"") + "\"}");
         }
     }
+
+    // The listing with only the selected columns read from the database; paged the same way as the full one
+    private ResponseEntity<?> getEmployeeFields(List<String> fields, List<String> bloodgroups, String email, int after, Integer limit) {
+        if (limit == null) {
+            List<Map<String, Object>> employees = employeeService.findEmployeeFields(fields, bloodgroups, email, after, null);
+            return ResponseEntity.status(HttpStatus.OK).eTag(fieldsETag(employees, fields)).body(employees);
+        }
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        List<Map<String, Object>> employees = employeeService.findEmployeeFields(fields, bloodgroups, email, after, pageSize);
+        HttpHeaders headers = new HttpHeaders();
+        if (employees.size() == pageSize) {
+            headers.set(NEXT_CURSOR_HEADER, String.valueOf(employees.get(employees.size() - 1).get(EmployeeFields.ID)));
+        }
+        headers.setETag(fieldsETag(employees, fields));
+        return ResponseEntity.status(HttpStatus.OK).headers(headers).body(employees);
+    }
+
+    private static String employeesETag(List<EmployeeResponse> employees) {
+        return ETags.ofRows(employees, EmployeeResponse::getId, EmployeeResponse::getVersion, null);
+    }
+
+    private static String fieldsETag(List<Map<String, Object>> employees, List<String> fields) {
+        return ETags.ofRows(employees, row -> (Integer) row.get(EmployeeFields.ID), row -> (Long) row.get(EmployeeFields.VERSION), fields);
+    }
+
+    private ResponseEntity<?> badRequest(IllegalArgumentException e) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body("{\"error\": \"" + e.getMessage().replace("\"", "\\\"") + "\"}");
+    }
+
+    // 412 when the caller's If-Match no longer holds, 409 when another update committed in between ours
+    private ResponseEntity<?> updateConflict(boolean conditional) {
+        if (conditional) {
+            return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED)
+                    .body("{\"error\": \"Employee has changed since it was read\"}");
+        }
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body("{\"error\": \"Employee was updated concurrently, retry\"}");
+    }
+
+    // Same checks as the single-record endpoints; addresses go through the Address service's own bulk endpoint
+    private String validateBulk(List<EmployeeRequest> employeeRequests) {
+        for (int i = 0; i < employeeRequests.size(); i++) {
+            EmployeeRequest employeeRequest = employeeRequests.get(i);
+            if (employeeRequest.getName() == null || employeeRequest.getName().trim().isEmpty()) {
+                return "Name is required (item " + i + ")";
+            }
+            if (employeeRequest.getEmail() == null || employeeRequest.getEmail().trim().isEmpty()) {
+                return "Email is required (item " + i + ")";
+            }
+            if (employeeRequest.getAddress() != null) {
+                return "Address is not supported in bulk requests (item " + i + ")";
+            }
+        }
+        return null;
+    }
 }
@@ -0,0 +1,103 @@
+package com.example.employeeapp.employeeEntity;
+
+import java.time.Instant;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+
+/**
+ * Pending change to an employee's address, written in the same transaction as the employee change
+ * and sent to the Address service later by the outbox dispatcher.
+ * Keyed by employee id: both kinds of change carry the full desired state, so a newer change
+ * simply replaces one that has not been sent yet.
+ */
+@Entity
+@Table(name="address_outbox", indexes = @Index(name="idx_address_outbox_next_attempt", columnList="next_attempt_at"))
+public class AddressOutboxEvent {
+
+    public enum Type { UPSERT, DELETE }
+
+    @Id
+    @Column(name="employee_id")
+    private int employeeId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name="type", length=16, nullable=false)
+    private Type type;
+
+    // AddressRequest as JSON for UPSERT, null for DELETE
+    @Column(name="payload", length=2000)
+    private String payload;
+
+    @Column(name="attempts", nullable=false)
+    private int attempts;
+
+    @Column(name="next_attempt_at", nullable=false)
+    private Instant nextAttemptAt;
+
+    @Column(name="last_error", length=500)
+    private String lastError;
+
+    // Lets the dispatcher remove a row only if it was not replaced while the call was in flight
+    @Version
+    @Column(name="version")
+    private Long version;
+
+    public int getEmployeeId() {
+        return employeeId;
+    }
+
+    public void setEmployeeId(int employeeId) {
+        this.employeeId = employeeId;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public void setType(Type type) {
+        this.type = type;
+    }
+
+    public String getPayload() {
+        return payload;
+    }
+
+    public void setPayload(String payload) {
+        this.payload = payload;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public void setAttempts(int attempts) {
+        this.attempts = attempts;
+    }
+
+    public Instant getNextAttemptAt() {
+        return nextAttemptAt;
+    }
+
+    public void setNextAttemptAt(Instant nextAttemptAt) {
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    public void setLastError(String lastError) {
+        this.lastError = lastError;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+}
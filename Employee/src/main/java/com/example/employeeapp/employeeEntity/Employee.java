@@ -1,16 +1,41 @@
 
 package com.example.employeeapp.employeeEntity;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
+
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 
 @Entity
+// Back the GET /employee filters. employee_id is spelled out so every database reads a blood group
+// in id order for keyset paging (InnoDB would append the primary key anyway)
+@Table(name="employee", indexes = {
+        @Index(name="ix_employee_bloodgroup", columnList="bloodgroup, employee_id"),
+        @Index(name="ix_employee_email", columnList="email") })
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "employee")
+// UPDATEs set only the changed columns (and version): an email-only PATCH writes and logs one column.
+// Bulk updates that change different columns per row are batched per distinct statement
+@DynamicUpdate
 public class Employee {
 
+    // Ids reserved per trip to employee_seq, so bulk inserts can be batched
+    public static final int ID_ALLOCATION_SIZE = 50;
+
     @Id
-    @GeneratedValue(strategy=jakarta.persistence.GenerationType.IDENTITY)
+    @GeneratedValue(strategy=GenerationType.SEQUENCE, generator="employee_seq")
+    @SequenceGenerator(name="employee_seq", sequenceName="employee_seq", allocationSize=Employee.ID_ALLOCATION_SIZE)
     @Column(name="employee_id")
     private int id;
 
@@ -21,6 +46,13 @@ public class Employee {
 
     @Column(name="bloodgroup")
     private String bloodgroup;
+
+    // Bumped by Hibernate on every update; the ETag of the employee's representations.
+    // The default fills the column for rows that existed before it (and for inserts made outside JPA)
+    @Version
+    @ColumnDefault("0")
+    @Column(name="version", nullable=false)
+    private long version;
     
     
     public int getId() {
@@ -55,6 +87,10 @@ public class Employee {
         return bloodgroup;
     }
 
+    public long getVersion() {
+        return version;
+    }
+
 
 
 
@@ -0,0 +1,76 @@
+package com.example.employeeapp.employeeRepo;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import jakarta.persistence.QueryHint;
+
+import com.example.employeeapp.employeeEntity.AddressOutboxEvent;
+
+@Repository
+public interface AddressOutboxRepo extends JpaRepository<AddressOutboxEvent, Integer> {
+
+    // Oldest due events that still have attempts left
+    List<AddressOutboxEvent> findByAttemptsLessThanAndNextAttemptAtLessThanEqualOrderByNextAttemptAtAsc(
+            int maxAttempts, Instant now, Limit limit);
+
+    // Replace whatever is pending for these employees; bumping the version stops an in-flight send from removing it
+    @Modifying
+    @Query("update AddressOutboxEvent e set e.type = :type, e.payload = :payload, e.attempts = 0, "
+            + "e.nextAttemptAt = :now, e.lastError = null, e.version = e.version + 1 "
+            + "where e.employeeId in :employeeIds")
+    int replacePending(@Param("employeeIds") List<Integer> employeeIds, @Param("type") AddressOutboxEvent.Type type,
+            @Param("payload") String payload, @Param("now") Instant now);
+
+    @Query("select e.employeeId from AddressOutboxEvent e where e.employeeId in :employeeIds")
+    List<Integer> findPendingIds(@Param("employeeIds") List<Integer> employeeIds);
+
+    // Insert a new event, or replace the one a concurrent first change inserted after replacePending missed it.
+    // The native spaces hint keeps Hibernate from clearing the whole second-level cache after the native write
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "address_outbox"))
+    @Query(value = "insert into address_outbox (employee_id, type, payload, attempts, next_attempt_at, last_error, version) "
+            + "values (:employeeId, :type, :payload, 0, :now, null, 0) "
+            + "on duplicate key update type = values(type), payload = values(payload), attempts = 0, "
+            + "next_attempt_at = values(next_attempt_at), last_error = null, version = version + 1",
+            nativeQuery = true)
+    int insertOrReplace(@Param("employeeId") int employeeId, @Param("type") String type,
+            @Param("payload") String payload, @Param("now") Instant now);
+
+    // Events that ran out of attempts and are parked for inspection
+    long countByAttemptsGreaterThanEqual(int maxAttempts);
+
+    List<AddressOutboxEvent> findByAttemptsGreaterThanEqualOrderByEmployeeIdAsc(int maxAttempts, Limit limit);
+
+    // Give parked events a fresh set of attempts, due at once
+    @Transactional
+    @Modifying
+    @Query("update AddressOutboxEvent e set e.attempts = 0, e.nextAttemptAt = :now, e.version = e.version + 1 "
+            + "where e.attempts >= :maxAttempts")
+    int requeueDead(@Param("maxAttempts") int maxAttempts, @Param("now") Instant now);
+
+    // Remove a sent event unless a newer change replaced it meanwhile (the version moved on)
+    @Transactional
+    @Modifying
+    @Query("delete from AddressOutboxEvent e where e.employeeId = :employeeId and e.version = :version")
+    int deleteSent(@Param("employeeId") int employeeId, @Param("version") long version);
+
+    // Record a failed attempt, again only if the event was not replaced meanwhile
+    @Transactional
+    @Modifying
+    @Query("update AddressOutboxEvent e set e.attempts = e.attempts + 1, e.nextAttemptAt = :nextAttemptAt, "
+            + "e.lastError = :lastError, e.version = e.version + 1 "
+            + "where e.employeeId = :employeeId and e.version = :version")
+    int markFailed(@Param("employeeId") int employeeId, @Param("version") long version,
+            @Param("nextAttemptAt") Instant nextAttemptAt, @Param("lastError") String lastError);
+}
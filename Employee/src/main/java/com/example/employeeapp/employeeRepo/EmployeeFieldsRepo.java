@@ -0,0 +1,25 @@
+package com.example.employeeapp.employeeRepo;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.example.employeeapp.employeeEntity.Employee;
+
+/**
+ * Column projections for the sparse-fieldset reads, mixed into EmployeeRepo.
+ * Which columns are wanted is only known per request, so the select list is built at run time
+ * rather than declared as one projection interface per combination.
+ */
+public interface EmployeeFieldsRepo {
+
+    /**
+     * Selects only the given attributes of the matching employees, in id order
+     * @param specification Filter, as built by EmployeeSpecifications
+     * @param fields Employee attribute names to select
+     * @param limit Maximum number of rows, or null for every match
+     * @return One map per row, attribute name to value, in the order of fields
+     */
+    List<Map<String, Object>> findFields(Specification<Employee> specification, List<String> fields, Integer limit);
+}
@@ -1,10 +1,35 @@
 package com.example.employeeapp.employeeRepo;
 
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import com.example.employeeapp.employeeEntity.Employee;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
-public interface EmployeeRepo extends JpaRepository<Employee, Integer> {
+// Filtered listings go through JpaSpecificationExecutor with EmployeeSpecifications; sparse-fieldset reads through EmployeeFieldsRepo
+public interface EmployeeRepo extends JpaRepository<Employee, Integer>, JpaSpecificationExecutor<Employee>, EmployeeFieldsRepo {
+
+    // Served from the query cache when hibernate.cache.use_query_cache is on
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<Employee> findAll();
+
+    // Keyset page: next rows after the given id, walking the primary key index
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<Employee> findByIdGreaterThanOrderByIdAsc(int after, Limit limit);
+
+    // Cursor-backed stream; must be consumed inside a transaction and closed
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("select e from Employee e order by e.id")
+    Stream<Employee> streamAll();
 }
@@ -0,0 +1,43 @@
+package com.example.employeeapp.employeeRepo;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.example.employeeapp.employeeEntity.Employee;
+
+import jakarta.persistence.criteria.Predicate;
+
+/**
+ * Predicates for the filtered employee listing.
+ * Only the filters actually given end up in the WHERE clause, so the database sees a plain
+ * IN / equality on an indexed column instead of "(:x IS NULL OR column = :x)", which it cannot use an index for.
+ */
+public final class EmployeeSpecifications {
+
+    private EmployeeSpecifications() {
+    }
+
+    /**
+     * @param bloodgroups Any of these blood groups; null or empty for any
+     * @param email Exact email; null for any
+     * @param after Keyset cursor: only ids greater than this (0 for the first page)
+     */
+    public static Specification<Employee> matching(Collection<String> bloodgroups, String email, int after) {
+        return (root, query, criteriaBuilder) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if (bloodgroups != null && !bloodgroups.isEmpty()) {
+                predicates.add(root.get("bloodgroup").in(bloodgroups));
+            }
+            if (email != null) {
+                predicates.add(criteriaBuilder.equal(root.get("email"), email));
+            }
+            if (after > 0) {
+                predicates.add(criteriaBuilder.greaterThan(root.get("id"), after));
+            }
+            return criteriaBuilder.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+}
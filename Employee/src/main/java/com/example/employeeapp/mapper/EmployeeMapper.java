@@ -0,0 +1,81 @@
+package com.example.employeeapp.mapper;
+
+import java.util.Map;
+
+import org.springframework.stereotype.Component;
+
+import com.example.employeeapp.EmployeeResponse.EmployeeRequest;
+import com.example.employeeapp.EmployeeResponse.EmployeeResponse;
+import com.example.employeeapp.employeeEntity.Employee;
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Plain field-by-field mapping between the Employee entity and its DTOs.
+ * Written out by hand so the request path does no reflection or type-map lookups.
+ */
+@Component
+public class EmployeeMapper {
+
+    public Employee toEntity(EmployeeRequest employeeRequest) {
+        Employee employee = new Employee();
+        copyToEntity(employeeRequest, employee);
+        return employee;
+    }
+
+    // Copies the updatable fields from the request onto an existing entity
+    public void copyToEntity(EmployeeRequest employeeRequest, Employee employee) {
+        employee.setName(employeeRequest.getName());
+        employee.setEmail(employeeRequest.getEmail());
+        employee.setBloodgroup(employeeRequest.getBloodgroup());
+    }
+
+    /**
+     * Applies a JSON Merge Patch (RFC 7396) to an existing entity: members present are set, null clears,
+     * and absent members are left alone, so only the columns sent end up dirty
+     * @throws IllegalArgumentException on a member that is not an updatable field or has the wrong type,
+     *         and on clearing the name or email
+     */
+    public void applyPatch(JsonNode patch, Employee employee) {
+        if (!patch.isObject()) {
+            throw new IllegalArgumentException("A merge patch must be a JSON object");
+        }
+        for (Map.Entry<String, JsonNode> member : patch.properties()) {
+            switch (member.getKey()) {
+                case "name" -> employee.setName(requiredText(member));
+                case "email" -> employee.setEmail(requiredText(member));
+                case "bloodgroup" -> employee.setBloodgroup(text(member));
+                default -> throw new IllegalArgumentException(
+                        "Field '" + member.getKey() + "' cannot be patched, expected any of name, email, bloodgroup");
+            }
+        }
+    }
+
+    public EmployeeResponse toResponse(Employee employee) {
+        EmployeeResponse employeeResponse = new EmployeeResponse();
+        employeeResponse.setId(employee.getId());
+        employeeResponse.setName(employee.getName());
+        employeeResponse.setEmail(employee.getEmail());
+        employeeResponse.setBloodgroup(employee.getBloodgroup());
+        employeeResponse.setVersion(employee.getVersion());
+        return employeeResponse;
+    }
+
+    private static String text(Map.Entry<String, JsonNode> member) {
+        JsonNode value = member.getValue();
+        if (value.isNull()) {
+            return null;
+        }
+        if (!value.isTextual()) {
+            throw new IllegalArgumentException("Field '" + member.getKey() + "' must be a string");
+        }
+        return value.textValue();
+    }
+
+    private static String requiredText(Map.Entry<String, JsonNode> member) {
+        String value = text(member);
+        if (value == null || value.trim().isEmpty()) {
+            throw new IllegalArgumentException("Field '" + member.getKey() + "' is required");
+        }
+        return value;
+    }
+}
@@ -0,0 +1,293 @@
+package com.example.employeeapp.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntPredicate;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * In-memory type-ahead index over employee names and emails, case-insensitive.
+ * Queries of three or more characters match anywhere in either field: the ids filed under every
+ * trigram of the query are intersected and the survivors checked against the text. Shorter queries
+ * match the start of a word (name words, the parts of the email between punctuation) through
+ * one- and two-character prefix grams, which are exact and need no check.
+ * Each gram keeps a sorted int array of ids, so loading in id order and new employees only append;
+ * a change touches just the grams that differ between the old and the new text.
+ * Searches share a read lock, writes take the write lock.
+ * Only this instance's writes are seen after the startup load (see EmployeeSearchIndexLoader).
+ */
+@Component
+public class EmployeeSearchIndex {
+
+    // Below this many characters a query is a word-prefix lookup rather than a trigram search
+    private static final int TRIGRAM = 3;
+    // Leads the prefix grams so they never collide with a trigram of real text
+    private static final char PREFIX_MARK = '\0';
+    private static final long[] NO_GRAMS = new long[0];
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Integer, Entry> entries = new HashMap<>();
+    private final Map<Long, Postings> postings = new HashMap<>();
+
+    // Lower-cased name and email, kept to check candidates and to work out which grams a change removes
+    private record Entry(String name, String email) {
+    }
+
+    /**
+     * Add an employee or replace its indexed name and email
+     * @param id Employee ID
+     * @param name Name; null is indexed as empty
+     * @param email Email; null is indexed as empty
+     */
+    public void put(int id, String name, String email) {
+        Entry entry = new Entry(normalize(name), normalize(email));
+        long[] added = grams(entry);
+        lock.writeLock().lock();
+        try {
+            Entry previous = entries.put(id, entry);
+            if (entry.equals(previous)) {
+                return;
+            }
+            long[] removed = previous != null ? grams(previous) : NO_GRAMS;
+            for (long gram : removed) {
+                if (Arrays.binarySearch(added, gram) < 0) {
+                    removeFrom(gram, id);
+                }
+            }
+            for (long gram : added) {
+                if (Arrays.binarySearch(removed, gram) < 0) {
+                    postings.computeIfAbsent(gram, key -> new Postings()).add(id);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(int id) {
+        removeAll(List.of(id));
+    }
+
+    // Each affected gram is compacted once however many of the ids it holds; unknown ids are ignored
+    public void removeAll(Collection<Integer> ids) {
+        lock.writeLock().lock();
+        try {
+            Map<Long, Set<Integer>> removedByGram = new HashMap<>();
+            for (Integer id : ids) {
+                Entry entry = entries.remove(id);
+                if (entry == null) {
+                    continue;
+                }
+                for (long gram : grams(entry)) {
+                    removedByGram.computeIfAbsent(gram, key -> new HashSet<>()).add(id);
+                }
+            }
+            removedByGram.forEach((gram, removed) -> removeFrom(gram, removed::contains));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Ids of the employees whose name or email matches the query, in id order
+     * @param query Three or more characters match anywhere; one or two match the start of a word
+     * @param limit Maximum number of ids to return
+     * @return Up to limit matching ids
+     */
+    public List<Integer> search(String query, int limit) {
+        String text = normalize(query).strip();
+        if (text.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        boolean prefix = text.length() < TRIGRAM;
+        long[] grams = prefix ? new long[] { prefixGram(text) } : trigrams(text);
+        lock.readLock().lock();
+        try {
+            Postings[] lists = new Postings[grams.length];
+            for (int i = 0; i < grams.length; i++) {
+                lists[i] = postings.get(grams[i]);
+                if (lists[i] == null) {
+                    return List.of();
+                }
+            }
+            // Walk the rarest gram and probe the others
+            Arrays.sort(lists, Comparator.comparingInt(list -> list.size));
+            Postings rarest = lists[0];
+            List<Integer> found = new ArrayList<>(Math.min(limit, rarest.size));
+            for (int i = 0; i < rarest.size && found.size() < limit; i++) {
+                int id = rarest.ids[i];
+                if (inAll(lists, id) && (prefix || contains(entries.get(id), text))) {
+                    found.add(id);
+                }
+            }
+            return found;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void removeFrom(long gram, int id) {
+        Postings list = postings.get(gram);
+        if (list != null && list.remove(id) == 0) {
+            postings.remove(gram);
+        }
+    }
+
+    private void removeFrom(long gram, IntPredicate removed) {
+        Postings list = postings.get(gram);
+        if (list != null && list.removeIf(removed) == 0) {
+            postings.remove(gram);
+        }
+    }
+
+    private static boolean inAll(Postings[] lists, int id) {
+        for (int i = 1; i < lists.length; i++) {
+            if (!lists[i].contains(id)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Every trigram of the query can be present without the query itself being there
+    private static boolean contains(Entry entry, String text) {
+        return entry.name().contains(text) || entry.email().contains(text);
+    }
+
+    private static String normalize(String text) {
+        return text == null ? "" : text.toLowerCase(Locale.ROOT);
+    }
+
+    // Sorted and distinct, so a change can be diffed with binary searches
+    private static long[] grams(Entry entry) {
+        String name = entry.name();
+        String email = entry.email();
+        long[] grams = new long[2 * (name.length() + email.length()) + 2];
+        int count = addTrigrams(name, grams, 0);
+        count = addTrigrams(email, grams, count);
+        count = addWordPrefixes(name, grams, count);
+        count = addWordPrefixes(email, grams, count);
+        return distinct(grams, count);
+    }
+
+    private static long[] trigrams(String text) {
+        long[] grams = new long[text.length()];
+        return distinct(grams, addTrigrams(text, grams, 0));
+    }
+
+    private static int addTrigrams(String text, long[] into, int at) {
+        for (int i = 0; i + TRIGRAM <= text.length(); i++) {
+            into[at++] = gram(text.charAt(i), text.charAt(i + 1), text.charAt(i + 2));
+        }
+        return at;
+    }
+
+    // The first one and two characters of every run of letters and digits
+    private static int addWordPrefixes(String text, long[] into, int at) {
+        for (int i = 0; i < text.length(); i++) {
+            if (!isWordChar(text.charAt(i)) || (i > 0 && isWordChar(text.charAt(i - 1)))) {
+                continue;
+            }
+            into[at++] = gram(PREFIX_MARK, PREFIX_MARK, text.charAt(i));
+            if (i + 1 < text.length() && isWordChar(text.charAt(i + 1))) {
+                into[at++] = gram(PREFIX_MARK, text.charAt(i), text.charAt(i + 1));
+            }
+        }
+        return at;
+    }
+
+    private static long prefixGram(String text) {
+        return text.length() == 1
+                ? gram(PREFIX_MARK, PREFIX_MARK, text.charAt(0))
+                : gram(PREFIX_MARK, text.charAt(0), text.charAt(1));
+    }
+
+    private static boolean isWordChar(char c) {
+        return Character.isLetterOrDigit(c);
+    }
+
+    private static long gram(char first, char second, char third) {
+        return ((long) first << 32) | ((long) second << 16) | third;
+    }
+
+    private static long[] distinct(long[] grams, int count) {
+        Arrays.sort(grams, 0, count);
+        int unique = 0;
+        for (int i = 0; i < count; i++) {
+            if (unique == 0 || grams[unique - 1] != grams[i]) {
+                grams[unique++] = grams[i];
+            }
+        }
+        return Arrays.copyOf(grams, unique);
+    }
+
+    // Ids filed under one gram, ascending
+    private static final class Postings {
+        private int[] ids = new int[2];
+        private int size;
+
+        void add(int id) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size + (size >> 1) + 1);
+            }
+            if (size == 0 || ids[size - 1] < id) {
+                ids[size++] = id;
+                return;
+            }
+            int at = Arrays.binarySearch(ids, 0, size, id);
+            if (at >= 0) {
+                return;
+            }
+            at = -at - 1;
+            System.arraycopy(ids, at, ids, at + 1, size - at);
+            ids[at] = id;
+            size++;
+        }
+
+        boolean contains(int id) {
+            return Arrays.binarySearch(ids, 0, size, id) >= 0;
+        }
+
+        // Returns the ids left
+        int remove(int id) {
+            int at = Arrays.binarySearch(ids, 0, size, id);
+            if (at >= 0) {
+                System.arraycopy(ids, at + 1, ids, at, size - at - 1);
+                size--;
+            }
+            return size;
+        }
+
+        // One pass however many ids go; returns the ids left
+        int removeIf(IntPredicate removed) {
+            int kept = 0;
+            for (int i = 0; i < size; i++) {
+                if (!removed.test(ids[i])) {
+                    ids[kept++] = ids[i];
+                }
+            }
+            size = kept;
+            return size;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.employeeapp.search;
+
+import java.sql.PreparedStatement;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+
+/**
+ * Fills the EmployeeSearchIndex from the employee table before the app takes traffic;
+ * EmployeeService keeps it current from then on. Rows are read through a cursor in id order
+ * rather than as entities, so a large table costs only the index itself.
+ */
+@Component
+public class EmployeeSearchIndexLoader implements SmartInitializingSingleton {
+
+    private static final Logger log = LoggerFactory.getLogger(EmployeeSearchIndexLoader.class);
+
+    private static final int FETCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EmployeeSearchIndex searchIndex;
+
+    public EmployeeSearchIndexLoader(JdbcTemplate jdbcTemplate, EmployeeSearchIndex searchIndex) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.searchIndex = searchIndex;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        long start = System.nanoTime();
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    "SELECT employee_id, name, email FROM employee ORDER BY employee_id");
+            statement.setFetchSize(FETCH_SIZE);
+            return statement;
+        }, (RowCallbackHandler) row -> searchIndex.put(row.getInt(1), row.getString(2), row.getString(3)));
+        log.info("Indexed {} employees for search in {} ms", searchIndex.size(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+}
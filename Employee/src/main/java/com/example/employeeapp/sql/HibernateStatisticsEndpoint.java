@@ -0,0 +1,76 @@
+package com.example.employeeapp.sql;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.QueryStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * /actuator/hibernate: Hibernate's Statistics since startup (or the last reset) and the HQL/JPQL
+ * queries that took the most total time. The same counters are also published as hibernate.* metrics.
+ */
+@Endpoint(id = "hibernate")
+public class HibernateStatisticsEndpoint {
+
+    private static final int TOP_QUERIES = 10;
+
+    private final Statistics statistics;
+
+    public HibernateStatisticsEndpoint(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @ReadOperation
+    public Map<String, Object> statistics() {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("enabled", statistics.isStatisticsEnabled());
+        summary.put("since", statistics.getStartTime());
+        summary.put("sessionsOpened", statistics.getSessionOpenCount());
+        summary.put("transactions", statistics.getTransactionCount());
+        summary.put("statementsPrepared", statistics.getPrepareStatementCount());
+        summary.put("entitiesLoaded", statistics.getEntityLoadCount());
+        summary.put("entitiesFetched", statistics.getEntityFetchCount());
+        summary.put("entitiesInserted", statistics.getEntityInsertCount());
+        summary.put("entitiesUpdated", statistics.getEntityUpdateCount());
+        summary.put("entitiesDeleted", statistics.getEntityDeleteCount());
+        summary.put("optimisticFailures", statistics.getOptimisticFailureCount());
+        summary.put("secondLevelCacheHits", statistics.getSecondLevelCacheHitCount());
+        summary.put("secondLevelCacheMisses", statistics.getSecondLevelCacheMissCount());
+        summary.put("queryCacheHits", statistics.getQueryCacheHitCount());
+        summary.put("queryCacheMisses", statistics.getQueryCacheMissCount());
+        summary.put("queriesExecuted", statistics.getQueryExecutionCount());
+        summary.put("slowestQueryMillis", statistics.getQueryExecutionMaxTime());
+        summary.put("slowestQuery", statistics.getQueryExecutionMaxTimeQueryString());
+        summary.put("topQueriesByTotalTime", topQueries());
+        return summary;
+    }
+
+    private List<Map<String, Object>> topQueries() {
+        return Arrays.stream(statistics.getQueries())
+                .map(query -> Map.entry(query, statistics.getQueryStatistics(query)))
+                .sorted(Comparator.comparingLong((Map.Entry<String, QueryStatistics> entry) ->
+                        entry.getValue().getExecutionTotalTime()).reversed())
+                .limit(TOP_QUERIES)
+                .map(entry -> {
+                    QueryStatistics query = entry.getValue();
+                    Map<String, Object> row = new LinkedHashMap<>();
+                    row.put("query", entry.getKey());
+                    row.put("executions", query.getExecutionCount());
+                    row.put("rows", query.getExecutionRowCount());
+                    row.put("totalMillis", query.getExecutionTotalTime());
+                    row.put("avgMillis", query.getExecutionAvgTime());
+                    row.put("maxMillis", query.getExecutionMaxTime());
+                    return row;
+                })
+                .toList();
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.employeeapp.sql;
+
+import java.io.IOException;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Collects the SELECTs each request runs and, once it completes, reports likely N+1 loops and
+ * redundant reads as warnings and as jdbc.n_plus_one / jdbc.redundant_reads counts per endpoint.
+ * Runs inside the tracing filter, so the warnings carry the request's trace id.
+ */
+public class RequestQueryFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(RequestQueryFilter.class);
+
+    private final MeterRegistry meterRegistry;
+    private final int repeatedSelectThreshold;
+
+    public RequestQueryFilter(MeterRegistry meterRegistry, int repeatedSelectThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.repeatedSelectThreshold = repeatedSelectThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RequestQueries queries = RequestQueries.open();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestQueries.close();
+            report(request, queries);
+        }
+    }
+
+    private void report(HttpServletRequest request, RequestQueries queries) {
+        Map<String, Integer> repeated = queries.repeatedAtLeast(repeatedSelectThreshold);
+        if (repeated.isEmpty() && queries.redundantReads().isEmpty()) {
+            return;
+        }
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        String endpoint = request.getMethod() + " " + uri;
+        repeated.forEach((sql, count) -> {
+            log.warn("Possible N+1 in {}: {} executions of [{}]", endpoint, count, sql);
+            meterRegistry.counter("jdbc.n_plus_one", "method", request.getMethod(), "uri", uri).increment();
+        });
+        queries.redundantReads().forEach(read -> {
+            log.warn("Redundant read in {}: {}", endpoint, read);
+            meterRegistry.counter("jdbc.redundant_reads", "method", request.getMethod(), "uri", uri).increment();
+        });
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.employeeapp;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import com.example.employeeapp.EmployeeResponse.EmployeeRequest;
+import com.example.employeeapp.EmployeeService.EmployeeService;
+
+// Built and run only with mvn -Preactive
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles({ "reactive", "test" })
+class ReactiveEmployeeTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Test
+    void employeeWrittenThroughJpaIsReadBackOverR2dbc() throws Exception {
+        int id = employeeService.createEmployee(employeeRequest("reactive-read")).getId();
+
+        MvcResult started = mockMvc.perform(get("/reactive/employee/" + id))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(id))
+                .andExpect(jsonPath("$.name").value("reactive-read"))
+                .andExpect(jsonPath("$.version").value(0));
+    }
+
+    @Test
+    void missingEmployeeIsNotFound() throws Exception {
+        MvcResult started = mockMvc.perform(get("/reactive/employee/2147483000")).andReturn();
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isNotFound());
+    }
+
+    private static EmployeeRequest employeeRequest(String name) {
+        EmployeeRequest employeeRequest = new EmployeeRequest();
+        employeeRequest.setName(name);
+        employeeRequest.setEmail(name + "@example.com");
+        employeeRequest.setBloodgroup("O+");
+        return employeeRequest;
+    }
+}
@@ -0,0 +1,226 @@
+package com.example.employeeapp.benchmark;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntSupplier;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import javax.sql.DataSource;
+
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.example.employeeapp.DemoApplication;
+import com.example.employeeapp.EmployeeResponse.EmployeeRequest;
+import com.example.employeeapp.EmployeeResponse.EmployeeWithAddressResponse;
+import com.example.employeeapp.EmployeeService.EmployeeService;
+import com.example.employeeapp.reactive.ReactiveEmployeeService;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+import io.r2dbc.pool.ConnectionPool;
+import jakarta.persistence.EntityManagerFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Connection and thread use of the with-address read at high concurrency: blocking on a
+ * Tomcat-sized platform pool, blocking on virtual threads, and the reactive (R2DBC + WebClient) path.
+ * Runs against in-memory H2 (JDBC and R2DBC share one database) and the Address stub; every request
+ * uses a distinct employee so each one misses the caches and reaches both the DB and the stub.
+ *
+ * mvn -Preactive test-compile exec:java -Dexec.classpathScope=test
+ *     -Dexec.mainClass=com.example.employeeapp.benchmark.ReactiveLoadComparison [-Dexec.args=10000]
+ */
+public final class ReactiveLoadComparison {
+
+    private static final Logger log = LoggerFactory.getLogger(ReactiveLoadComparison.class);
+
+    // Tomcat's default server.tomcat.threads.max
+    private static final int PLATFORM_THREADS = 200;
+    private static final int DB_POOL_SIZE = 10;
+
+    private enum Scenario { BLOCKING_PLATFORM, BLOCKING_VIRTUAL, REACTIVE }
+
+    private ReactiveLoadComparison() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int requests = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+        try (AddressStubServer addressStub = AddressStubServer.start(0)) {
+            List<String> rows = new ArrayList<>();
+            for (Scenario scenario : Scenario.values()) {
+                rows.add(run(scenario, requests, addressStub.getPort()));
+            }
+            log.info("{} concurrent getEmployeeWithAddress requests", requests);
+            log.info(String.format("%-18s %9s %9s %8s %9s %10s %10s %9s %10s %10s",
+                    "scenario", "wall ms", "req/s", "errors", "no addr", "plat thr", "+thr load",
+                    "db conns", "db waiting", "http conns"));
+            rows.forEach(log::info);
+        }
+    }
+
+    private static String run(Scenario scenario, int requests, int addressPort) throws Exception {
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(DemoApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles(scenario == Scenario.REACTIVE ? new String[] { "reactive", "test" } : new String[] { "test" });
+        // Command-line arguments, unlike builder properties, take precedence over application.properties
+        String[] overrides = {
+                "--logging.level.root=WARN",
+                "--logging.level.com.example.employeeapp.benchmark=INFO",
+                "--address.client.base-url=http://localhost:" + addressPort,
+                "--spring.threads.virtual.enabled=" + (scenario != Scenario.BLOCKING_PLATFORM),
+                "--spring.datasource.hikari.maximum-pool-size=" + DB_POOL_SIZE,
+                "--spring.datasource.hikari.connection-timeout=60000",
+                "--spring.r2dbc.pool.max-size=" + DB_POOL_SIZE,
+                "--spring.r2dbc.pool.max-acquire-time=60s",
+                // Measure queuing rather than fast-fail: no bulkhead or breaker rejections, long waits allowed
+                "--address.client.connection-request-timeout=60s",
+                "--address.client.read-timeout=60s",
+                "--resilience4j.bulkhead.instances.address.max-concurrent-calls=" + requests,
+                "--resilience4j.circuitbreaker.instances.address.slow-call-duration-threshold=60s",
+                "--employee.outbox.poll-interval-ms=3600000" };
+        try (ConfigurableApplicationContext context = builder.run(overrides)) {
+            EmployeeService employeeService = context.getBean(EmployeeService.class);
+            employeeService.createEmployees(IntStream.rangeClosed(1, requests)
+                    .mapToObj(ReactiveLoadComparison::employeeRequest)
+                    .collect(Collectors.toList()));
+            // Make the blocking path read MySQL (H2) too instead of the second-level cache
+            context.getBean(EntityManagerFactory.class).getCache().evictAll();
+
+            // The test profile runs a stand-in replica pool next to the primary; reads land on either
+            List<HikariDataSource> dbPools = List.of(
+                    context.getBean("primaryDataSource", DataSource.class).unwrap(HikariDataSource.class),
+                    context.getBean("replicaDataSource", DataSource.class).unwrap(HikariDataSource.class));
+            Peak dbConnections = new Peak();
+            Peak dbWaiting = new Peak();
+            Peak httpConnections = new Peak();
+            IntSupplier httpActive;
+            IntSupplier dbActive;
+            IntSupplier dbPending;
+            if (scenario == Scenario.REACTIVE) {
+                ConnectionPool pool = context.getBean(ConnectionPool.class);
+                dbActive = () -> pool.getMetrics().map(metrics -> metrics.acquiredSize()).orElse(0);
+                dbPending = () -> pool.getMetrics().map(metrics -> metrics.pendingAcquireSize()).orElse(0);
+                httpActive = () -> (int) Metrics.globalRegistry.find("reactor.netty.connection.provider.active.connections")
+                        .gauges().stream().mapToDouble(Gauge::value).sum();
+            } else {
+                PoolingHttpClientConnectionManager connectionManager = context.getBean(PoolingHttpClientConnectionManager.class);
+                dbActive = () -> sumOverPools(dbPools, HikariPoolMXBean::getActiveConnections);
+                dbPending = () -> sumOverPools(dbPools, HikariPoolMXBean::getThreadsAwaitingConnection);
+                httpActive = () -> connectionManager.getTotalStats().getLeased();
+            }
+
+            ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+            int baselineThreads = threads.getThreadCount();
+            threads.resetPeakThreadCount();
+            AtomicInteger errors = new AtomicInteger();
+            AtomicInteger missingAddresses = new AtomicInteger();
+
+            ExecutorService sampler = Executors.newSingleThreadExecutor();
+            AtomicInteger running = new AtomicInteger(1);
+            Future<?> sampling = sampler.submit(() -> {
+                while (running.get() == 1) {
+                    dbConnections.offer(dbActive.getAsInt());
+                    dbWaiting.offer(dbPending.getAsInt());
+                    httpConnections.offer(httpActive.getAsInt());
+                    sleep(2);
+                }
+            });
+
+            long start = System.nanoTime();
+            if (scenario == Scenario.REACTIVE) {
+                ReactiveEmployeeService reactiveService = context.getBean(ReactiveEmployeeService.class);
+                Flux.range(1, requests)
+                        .flatMap(id -> reactiveService.getEmployeeWithAddress(id)
+                                .doOnNext(response -> countMissing(response, missingAddresses))
+                                .onErrorResume(e -> {
+                                    errors.incrementAndGet();
+                                    return Mono.empty();
+                                }), requests)
+                        .blockLast();
+            } else {
+                ExecutorService callers = scenario == Scenario.BLOCKING_VIRTUAL
+                        ? Executors.newVirtualThreadPerTaskExecutor()
+                        : Executors.newFixedThreadPool(PLATFORM_THREADS);
+                try (callers) {
+                    for (int id = 1; id <= requests; id++) {
+                        int employeeId = id;
+                        callers.submit(() -> {
+                            try {
+                                countMissing(employeeService.getEmployeeWithAddress(employeeId), missingAddresses);
+                            } catch (RuntimeException e) {
+                                errors.incrementAndGet();
+                            }
+                        });
+                    }
+                }
+            }
+            long wallMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+            running.set(0);
+            sampling.get();
+            sampler.shutdown();
+            int peakThreads = threads.getPeakThreadCount();
+
+            return String.format("%-18s %9d %9.0f %8d %9d %10d %10d %9d %10d %10d",
+                    scenario, wallMillis, requests * 1000.0 / Math.max(1, wallMillis), errors.get(),
+                    missingAddresses.get(), peakThreads, peakThreads - baselineThreads,
+                    dbConnections.max, dbWaiting.max, httpConnections.max);
+        }
+    }
+
+    // A pool has no MXBean until it opens its first connection
+    private static int sumOverPools(List<HikariDataSource> pools, ToIntFunction<HikariPoolMXBean> stat) {
+        return pools.stream()
+                .map(HikariDataSource::getHikariPoolMXBean)
+                .filter(Objects::nonNull)
+                .mapToInt(stat)
+                .sum();
+    }
+
+    private static void countMissing(EmployeeWithAddressResponse response, AtomicInteger missingAddresses) {
+        if (response == null || response.getAddress() == null) {
+            missingAddresses.incrementAndGet();
+        }
+    }
+
+    private static EmployeeRequest employeeRequest(int n) {
+        return EmployeeServiceBenchmark.employeeRequest(n, false);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // Largest sample seen; written by the sampler thread only
+    private static final class Peak {
+        private volatile int max;
+
+        void offer(int value) {
+            if (value > max) {
+                max = value;
+            }
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.employeeapp.reactive;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import com.example.employeeapp.EmployeeResponse.EmployeeResponse;
+
+/**
+ * Read-only R2DBC view of the employee table (the JPA Employee entity stays the source of writes).
+ */
+@Table("employee")
+public record EmployeeRow(
+        @Id @Column("employee_id") int id,
+        @Column("name") String name,
+        @Column("email") String email,
+        @Column("bloodgroup") String bloodgroup,
+        @Column("version") long version) {
+
+    public EmployeeResponse toResponse() {
+        EmployeeResponse employeeResponse = new EmployeeResponse();
+        employeeResponse.setId(id);
+        employeeResponse.setName(name);
+        employeeResponse.setEmail(email);
+        employeeResponse.setBloodgroup(bloodgroup);
+        employeeResponse.setVersion(version);
+        return employeeResponse;
+    }
+}
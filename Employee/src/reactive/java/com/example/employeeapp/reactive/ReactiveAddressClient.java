@@ -0,0 +1,104 @@
+package com.example.employeeapp.reactive;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.example.employeeapp.EmployeeResponse.AddressResponse;
+import com.example.employeeapp.client.AddressClient;
+
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import jakarta.annotation.PostConstruct;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking reads from the Address microservice.
+ * Shares the "addresses" cache and the "address" circuit breaker with AddressClient;
+ * failures complete empty so callers can still return the employee.
+ */
+@Component
+@Profile("reactive")
+public class ReactiveAddressClient {
+
+    private static final Logger log = LoggerFactory.getLogger(ReactiveAddressClient.class);
+
+    @Autowired
+    private WebClient addressWebClient;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+
+    private CircuitBreaker circuitBreaker;
+
+    @PostConstruct
+    void init() {
+        circuitBreaker = circuitBreakerRegistry.circuitBreaker(AddressClient.RESILIENCE_INSTANCE);
+    }
+
+    // Get address; empty if missing or the service is unavailable
+    public Mono<AddressResponse> getAddress(int id) {
+        Cache cache = cacheManager.getCache(AddressClient.ADDRESS_CACHE);
+        AddressResponse cached = cache != null ? cache.get(id, AddressResponse.class) : null;
+        if (cached != null) {
+            return Mono.just(cached);
+        }
+        return addressWebClient.get()
+                .uri("/address/employee/{employeeId}", id)
+                .retrieve()
+                .onStatus(status -> status == HttpStatus.NOT_FOUND, response -> Mono.empty())
+                .bodyToMono(AddressResponse.class)
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+                .doOnNext(address -> {
+                    if (cache != null) {
+                        cache.put(id, address);
+                    }
+                })
+                .onErrorResume(e -> {
+                    logFailure("getting address " + id, e);
+                    return Mono.empty();
+                });
+    }
+
+    // Get many addresses in one batch call; missing or unavailable ones are absent
+    public Flux<AddressResponse> getAddresses(List<Integer> ids) {
+        Cache cache = cacheManager.getCache(AddressClient.ADDRESS_CACHE);
+        return addressWebClient.post()
+                .uri("/address/employee/batch")
+                .bodyValue(ids)
+                .retrieve()
+                .bodyToFlux(AddressResponse.class)
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+                .doOnNext(address -> {
+                    if (cache != null) {
+                        cache.put(address.getEmployeeId(), address);
+                    }
+                })
+                .onErrorResume(e -> {
+                    logFailure("getting addresses", e);
+                    return Flux.empty();
+                });
+    }
+
+    private void logFailure(String action, Throwable t) {
+        if (t instanceof CallNotPermittedException) {
+            log.debug("Address service call rejected while {}: {}", action, t.getMessage());
+            return;
+        }
+        log.warn("Error calling Address service while {}: {}", action, t.getMessage());
+    }
+}
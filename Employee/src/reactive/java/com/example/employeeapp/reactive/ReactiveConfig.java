@@ -0,0 +1,46 @@
+package com.example.employeeapp.reactive;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.example.employeeapp.config.AddressClientProperties;
+
+import io.netty.channel.ChannelOption;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * Beans for the reactive profile.
+ * The WebClient is sized from the same address.client.* settings as the RestTemplate; requests beyond
+ * the connection limit wait (without a thread) for up to connection-request-timeout.
+ */
+@Configuration
+@Profile("reactive")
+public class ReactiveConfig {
+
+    // Publishes reactor.netty.connection.provider.* gauges (active, idle, pending) to Actuator
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider addressConnectionProvider(AddressClientProperties properties) {
+        return ConnectionProvider.builder("address")
+                .maxConnections(properties.getMaxConnectionsPerRoute())
+                .pendingAcquireMaxCount(-1)
+                .pendingAcquireTimeout(properties.getConnectionRequestTimeout())
+                .maxIdleTime(properties.getKeepAlive())
+                .metrics(true)
+                .build();
+    }
+
+    @Bean
+    public WebClient addressWebClient(WebClient.Builder builder, AddressClientProperties properties,
+            ConnectionProvider addressConnectionProvider) {
+        HttpClient httpClient = HttpClient.create(addressConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) properties.getConnectTimeout().toMillis())
+                .responseTimeout(properties.getReadTimeout());
+        return builder.baseUrl(properties.getBaseUrl())
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.employeeapp.reactive;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.employeeapp.EmployeeResponse.EmployeeResponse;
+import com.example.employeeapp.EmployeeResponse.EmployeeWithAddressResponse;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive read endpoints, same shape as EmployeeController under /reactive.
+ * Spring MVC subscribes to the Mono/Flux and frees the request thread until data arrives;
+ * lists are written as newline-delimited JSON as rows are read.
+ */
+@RestController
+@Profile("reactive")
+@RequestMapping("/reactive")
+public class ReactiveEmployeeController {
+
+    private static final int MAX_PAGE_SIZE = 1000;
+    private static final String NDJSON = "application/x-ndjson";
+
+    @Autowired
+    private ReactiveEmployeeService employeeService;
+
+    // Read - Get by ID
+    @GetMapping("/employee/{id}")
+    public Mono<ResponseEntity<EmployeeResponse>> getEmployeeDetails(@PathVariable int id) {
+        return employeeService.getEmployeeById(id)
+                .map(employeeResponse -> ResponseEntity.status(HttpStatus.OK).body(employeeResponse))
+                .defaultIfEmpty(ResponseEntity.status(HttpStatus.NOT_FOUND).build());
+    }
+
+    // Read - Get All (keyset paged when limit is given: ?limit=100&after=<last id>)
+    @GetMapping(value = "/employee", produces = NDJSON)
+    public Flux<EmployeeResponse> getAllEmployees(
+            @RequestParam(value = "limit", required = false) Integer limit,
+            @RequestParam(value = "after", defaultValue = "0") int after) {
+        if (limit == null) {
+            return employeeService.getAllEmployees();
+        }
+        return employeeService.getEmployeesAfter(after, Math.max(1, Math.min(limit, MAX_PAGE_SIZE)));
+    }
+
+    // Read - Get by ID with address (DB read and Address call in parallel)
+    @GetMapping("/employee/{id}/with-address")
+    public Mono<ResponseEntity<EmployeeWithAddressResponse>> getEmployeeWithAddress(@PathVariable int id) {
+        return employeeService.getEmployeeWithAddress(id)
+                .map(response -> ResponseEntity.status(HttpStatus.OK).body(response))
+                .defaultIfEmpty(ResponseEntity.status(HttpStatus.NOT_FOUND).build());
+    }
+
+    // Read - Get All with addresses, one batched Address call per chunk of employees
+    @GetMapping(value = "/employee/with-address", produces = NDJSON)
+    public Flux<EmployeeWithAddressResponse> getAllEmployeesWithAddress() {
+        return employeeService.getAllEmployeesWithAddress();
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.employeeapp.reactive;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.stereotype.Repository;
+
+import reactor.core.publisher.Flux;
+
+/**
+ * Non-blocking mirror of EmployeeRepo's read queries.
+ */
+@Repository
+public interface ReactiveEmployeeRepo extends R2dbcRepository<EmployeeRow, Integer> {
+
+    // Keyset page: next rows after the given id, walking the primary key index
+    Flux<EmployeeRow> findByIdGreaterThanOrderByIdAsc(int after, Limit limit);
+
+    // Every row in id order, emitted as the driver reads them
+    Flux<EmployeeRow> findAllByOrderByIdAsc();
+}
@@ -0,0 +1,85 @@
+package com.example.employeeapp.reactive;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import com.example.employeeapp.EmployeeResponse.AddressResponse;
+import com.example.employeeapp.EmployeeResponse.EmployeeResponse;
+import com.example.employeeapp.EmployeeResponse.EmployeeWithAddressResponse;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Read side of EmployeeService on R2DBC and WebClient: no thread is held while waiting on MySQL or Address.
+ */
+@Service
+@Profile("reactive")
+public class ReactiveEmployeeService {
+
+    // Employees per batched Address call when streaming everything with addresses
+    private static final int ADDRESS_BATCH_SIZE = 500;
+
+    @Autowired
+    private ReactiveEmployeeRepo employeeRepo;
+
+    @Autowired
+    private ReactiveAddressClient addressClient;
+
+    // Get employee only (without address); empty if not found
+    public Mono<EmployeeResponse> getEmployeeById(int id) {
+        return employeeRepo.findById(id).map(EmployeeRow::toResponse);
+    }
+
+    // Read - Get All, emitted row by row in id order
+    public Flux<EmployeeResponse> getAllEmployees() {
+        return employeeRepo.findAllByOrderByIdAsc().map(EmployeeRow::toResponse);
+    }
+
+    // Read - Keyset page (rows with id greater than the cursor)
+    public Flux<EmployeeResponse> getEmployeesAfter(int after, int limit) {
+        return employeeRepo.findByIdGreaterThanOrderByIdAsc(after, Limit.of(limit))
+                .map(EmployeeRow::toResponse);
+    }
+
+    /**
+     * Get employee with address; the DB read and the Address call run at the same time
+     * @param id Employee ID
+     * @return Combined employee and address data, empty if the employee does not exist
+     */
+    public Mono<EmployeeWithAddressResponse> getEmployeeWithAddress(int id) {
+        Mono<Optional<AddressResponse>> address = addressClient.getAddress(id)
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty());
+        return getEmployeeById(id)
+                .zipWith(address, (employeeResponse, addressResponse) -> combine(employeeResponse, addressResponse.orElse(null)));
+    }
+
+    // Read - Get All with addresses: employees are streamed and their addresses fetched one batch call per chunk
+    public Flux<EmployeeWithAddressResponse> getAllEmployeesWithAddress() {
+        return getAllEmployees()
+                .buffer(ADDRESS_BATCH_SIZE)
+                .concatMap(employees -> {
+                    List<Integer> ids = employees.stream()
+                            .map(EmployeeResponse::getId)
+                            .collect(Collectors.toList());
+                    return addressClient.getAddresses(ids)
+                            .collectMap(AddressResponse::getEmployeeId)
+                            .flatMapMany(addresses -> Flux.fromIterable(employees)
+                                    .map(employeeResponse -> combine(employeeResponse, addresses.get(employeeResponse.getId()))));
+                });
+    }
+
+    private EmployeeWithAddressResponse combine(EmployeeResponse employeeResponse, AddressResponse addressResponse) {
+        EmployeeWithAddressResponse response = new EmployeeWithAddressResponse();
+        response.setEmployee(employeeResponse);
+        response.setAddress(addressResponse);
+        return response;
+    }
+}
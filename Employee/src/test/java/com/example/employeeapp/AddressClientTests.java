@@ -0,0 +1,137 @@
+package com.example.employeeapp;
+
+import static com.example.employeeapp.EmployeeWithAddressTests.address;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.example.employeeapp.EmployeeResponse.AddressRequest;
+import com.example.employeeapp.EmployeeResponse.AddressResponse;
+import com.example.employeeapp.client.AddressClient;
+import com.example.employeeapp.client.AddressTransport;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class AddressClientTests {
+
+    @Autowired
+    private AddressClient addressClient;
+
+    @Autowired
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+
+    @MockBean
+    private AddressTransport addressTransport;
+
+    @Test
+    void repeatedReadsAreServedFromTheCache() {
+        when(addressTransport.getAddress(730001)).thenReturn(address(730001, 680040));
+
+        addressClient.getAddress(730001);
+        assertThat(addressClient.getAddress(730001).getZip()).isEqualTo(680040);
+
+        verify(addressTransport, times(1)).getAddress(730001);
+    }
+
+    @Test
+    void missingAddressesAreNotCached() {
+        addressClient.getAddress(730002);
+        addressClient.getAddress(730002);
+
+        verify(addressTransport, times(2)).getAddress(730002);
+    }
+
+    @Test
+    void updateReplacesTheCachedAddress() {
+        when(addressTransport.getAddress(730003)).thenReturn(address(730003, 680041));
+        when(addressTransport.upsertAddress(eq(730003), any(AddressRequest.class))).thenReturn(address(730003, 680042));
+
+        addressClient.getAddress(730003);
+        addressClient.updateAddress(730003, new AddressRequest());
+
+        assertThat(addressClient.getAddress(730003).getZip()).isEqualTo(680042);
+        verify(addressTransport, times(1)).getAddress(730003);
+    }
+
+    @Test
+    void failedLookupFallsBackToNoAddress() {
+        when(addressTransport.getAddress(730011)).thenThrow(new IllegalStateException("Address service down"));
+
+        assertThat(addressClient.getAddress(730011)).isNull();
+    }
+
+    @Test
+    void failedBatchFallsBackToTheCachedAddresses() {
+        when(addressTransport.getAddress(730012)).thenReturn(address(730012, 680043));
+        when(addressTransport.getAddresses(anyList())).thenThrow(new IllegalStateException("Address service down"));
+        addressClient.getAddress(730012);
+
+        assertThat(addressClient.getAddresses(List.of(730012, 730013)))
+                .containsOnlyKeys(730012)
+                .extractingByKey(730012).extracting(AddressResponse::getZip).isEqualTo(680043);
+    }
+
+    @Test
+    void openBreakerRejectsCallsWithoutReachingTheTransport() {
+        CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(AddressClient.RESILIENCE_INSTANCE);
+        circuitBreaker.transitionToOpenState();
+        try {
+            assertThat(addressClient.getAddress(730014)).isNull();
+            verify(addressTransport, never()).getAddress(730014);
+        } finally {
+            circuitBreaker.reset();
+        }
+    }
+
+    @Test
+    void failingLookupsOpenTheBreaker() {
+        CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(AddressClient.RESILIENCE_INSTANCE);
+        circuitBreaker.reset();
+        when(addressTransport.getAddress(anyInt())).thenThrow(new IllegalStateException("Address service down"));
+        try {
+            int minimumCalls = circuitBreaker.getCircuitBreakerConfig().getMinimumNumberOfCalls();
+            for (int id = 730020; id < 730020 + minimumCalls; id++) {
+                assertThat(addressClient.getAddress(id)).isNull();
+            }
+
+            assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+            addressClient.getAddress(730019);
+            verify(addressTransport, never()).getAddress(730019);
+        } finally {
+            circuitBreaker.reset();
+        }
+    }
+
+    @Test
+    void openBreakerStillServesCachedAddresses() {
+        when(addressTransport.getAddress(730015)).thenReturn(address(730015, 680044));
+        addressClient.getAddress(730015);
+        CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(AddressClient.RESILIENCE_INSTANCE);
+        circuitBreaker.transitionToOpenState();
+        try {
+            assertThat(addressClient.getAddress(730015).getZip()).isEqualTo(680044);
+            assertThat(addressClient.getAddresses(List.of(730015, 730016))).containsOnlyKeys(730015);
+        } finally {
+            circuitBreaker.reset();
+        }
+        verify(addressTransport, times(1)).getAddress(730015);
+        verify(addressTransport, never()).getAddresses(anyList());
+    }
+}
@@ -0,0 +1,231 @@
+package com.example.employeeapp;
+
+import static com.example.employeeapp.EmployeeWithAddressTests.address;
+import static com.example.employeeapp.EmployeeWithAddressTests.employeeRequest;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.AdditionalAnswers.delegatesTo;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.employeeapp.EmployeeResponse.AddressRequest;
+import com.example.employeeapp.EmployeeResponse.EmployeeRequest;
+import com.example.employeeapp.EmployeeService.AddressOutbox;
+import com.example.employeeapp.EmployeeService.AddressOutboxDispatcher;
+import com.example.employeeapp.EmployeeService.EmployeeService;
+import com.example.employeeapp.client.AddressTransport;
+import com.example.employeeapp.employeeEntity.AddressOutboxEvent;
+import com.example.employeeapp.employeeRepo.AddressOutboxRepo;
+import com.example.employeeapp.employeeRepo.EmployeeRepo;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class AddressOutboxTests {
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private AddressOutboxDispatcher addressOutboxDispatcher;
+
+    @Autowired
+    private AddressOutbox addressOutbox;
+
+    @Autowired
+    private AddressOutboxRepo addressOutboxRepo;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EmployeeRepo employeeRepo;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${employee.outbox.max-attempts}")
+    private int maxAttempts;
+
+    @MockBean
+    private AddressTransport addressTransport;
+
+    @Test
+    void changeQueuedDuringASendIsDeliveredOnceAfterIt() {
+        int id = employeeService.createEmployee(employeeRequest("outbox-race")).getId();
+        employeeService.updateEmployeeWithAddress(id, withAddress("outbox-race", 680080), null);
+        AtomicInteger sends = new AtomicInteger();
+        when(addressTransport.upsertAddress(eq(id), any(AddressRequest.class))).thenAnswer(invocation -> {
+            if (sends.incrementAndGet() == 1) {
+                // A newer change commits while the first one is on the wire
+                employeeService.updateEmployeeWithAddress(id, withAddress("outbox-race", 680081), null);
+            }
+            return address(id, invocation.<AddressRequest>getArgument(1).getZip());
+        });
+
+        addressOutboxDispatcher.dispatch();
+        assertThat(addressOutboxRepo.findById(id)).isPresent();
+        addressOutboxDispatcher.dispatch();
+        addressOutboxDispatcher.dispatch();
+
+        verify(addressTransport, times(1)).upsertAddress(eq(id), argThat(request -> request.getZip() == 680080));
+        verify(addressTransport, times(1)).upsertAddress(eq(id), argThat(request -> request.getZip() == 680081));
+        assertThat(addressOutboxRepo.findById(id)).isEmpty();
+    }
+
+    @Test
+    void pendingDeletesGoOutInOneCallAndAreRemoved() {
+        int first = employeeService.createEmployeeWithAddress(withAddress("outbox-delete-first", 680087)).getEmployee().getId();
+        int second = employeeService.createEmployeeWithAddress(withAddress("outbox-delete-second", 680088)).getEmployee().getId();
+        employeeService.deleteEmployeeWithAddress(first);
+        employeeService.deleteEmployeeWithAddress(second);
+
+        addressOutboxDispatcher.dispatch();
+
+        // The queued upserts were replaced by the deletes, so only the deletes are sent
+        verify(addressTransport, times(1)).deleteAddresses(argThat(ids -> ids.containsAll(List.of(first, second))));
+        verify(addressTransport, never()).upsertAddress(eq(first), any(AddressRequest.class));
+        verify(addressTransport, never()).upsertAddress(eq(second), any(AddressRequest.class));
+        assertThat(addressOutboxRepo.findAllById(List.of(first, second))).isEmpty();
+    }
+
+    @Test
+    void firstChangesRacingForOneEmployeeLeaveTheLaterOnePending() {
+        int id = employeeService.createEmployee(employeeRequest("outbox-first")).getId();
+        AtomicBoolean raced = new AtomicBoolean();
+        AddressOutboxRepo racingRepo = mock(AddressOutboxRepo.class, delegatesTo(addressOutboxRepo));
+        doAnswer(invocation -> {
+            List<Integer> employeeIds = invocation.getArgument(0);
+            int replaced = addressOutboxRepo.replacePending(employeeIds, invocation.getArgument(1),
+                    invocation.getArgument(2), invocation.getArgument(3));
+            if (employeeIds.contains(id) && raced.compareAndSet(false, true)) {
+                // Another instance's first change commits after this one found nothing to replace
+                CompletableFuture.runAsync(() -> transactionTemplate.executeWithoutResult(
+                        status -> addressOutbox.enqueueUpsert(id, withAddress("outbox-first", 680085).getAddress())))
+                        .join();
+            }
+            return replaced;
+        }).when(racingRepo).replacePending(anyList(), any(), any(), any());
+        Object outbox = AopTestUtils.getTargetObject(addressOutbox);
+        ReflectionTestUtils.setField(outbox, "outboxRepo", racingRepo);
+        try {
+            employeeService.updateEmployeeWithAddress(id, withAddress("outbox-first", 680086), null);
+        } finally {
+            ReflectionTestUtils.setField(outbox, "outboxRepo", addressOutboxRepo);
+        }
+        when(addressTransport.upsertAddress(eq(id), any(AddressRequest.class))).thenReturn(address(id, 680086));
+        addressOutboxDispatcher.dispatch();
+
+        assertThat(raced).isTrue();
+        verify(addressTransport, times(1)).upsertAddress(eq(id), any(AddressRequest.class));
+        verify(addressTransport, times(1)).upsertAddress(eq(id), argThat(request -> request.getZip() == 680086));
+        assertThat(addressOutboxRepo.findById(id)).isEmpty();
+    }
+
+    @Test
+    void eventOutOfAttemptsIsParkedCountedAndRequeued() {
+        int id = employeeService.createEmployee(employeeRequest("outbox-dead")).getId();
+        employeeService.updateEmployeeWithAddress(id, withAddress("outbox-dead", 680082), null);
+        double deadLettered = meterRegistry.get("address.outbox.dead.letters").functionCounter().count();
+        lastAttempt(id);
+
+        addressOutboxDispatcher.dispatch();
+        addressOutboxDispatcher.dispatch();
+
+        verify(addressTransport, times(1)).upsertAddress(eq(id), any(AddressRequest.class));
+        assertThat(meterRegistry.get("address.outbox.dead.letters").functionCounter().count()).isEqualTo(deadLettered + 1);
+        assertThat(meterRegistry.get("address.outbox.dead").gauge().value()).isGreaterThanOrEqualTo(1);
+        assertThat(addressOutboxDispatcher.deadLetters(Integer.MAX_VALUE)).anyMatch(event -> event.getEmployeeId() == id);
+
+        when(addressTransport.upsertAddress(eq(id), any(AddressRequest.class))).thenReturn(address(id, 680082));
+        assertThat(addressOutboxDispatcher.requeueDeadLetters()).isGreaterThanOrEqualTo(1);
+        addressOutboxDispatcher.dispatch();
+
+        verify(addressTransport, times(2)).upsertAddress(eq(id), any(AddressRequest.class));
+        assertThat(addressOutboxRepo.findById(id)).isEmpty();
+    }
+
+    @Test
+    void eventsWithAttemptsLeftAreNotDeadLetters() {
+        int id = employeeService.createEmployee(employeeRequest("outbox-retry")).getId();
+        employeeService.updateEmployeeWithAddress(id, withAddress("outbox-retry", 680083), null);
+
+        addressOutboxDispatcher.dispatch();
+
+        assertThat(addressOutboxRepo.findById(id)).hasValueSatisfying(event -> assertThat(event.getAttempts()).isEqualTo(1));
+        assertThat(addressOutboxDispatcher.deadLetters(Integer.MAX_VALUE)).noneMatch(event -> event.getEmployeeId() == id);
+    }
+
+    @Test
+    void bulkDeleteSpanningSeveralInListsQueuesEveryEmployee() {
+        int first = employeeService.createEmployee(employeeRequest("outbox-bulk-first")).getId();
+        int last = employeeService.createEmployee(employeeRequest("outbox-bulk-last")).getId();
+        employeeService.updateEmployeeWithAddress(last, withAddress("outbox-bulk-last", 680084), null);
+        // More ids than fit in one IN list, with the already pending employee in a later chunk
+        List<Integer> ids = new ArrayList<>();
+        ids.add(first);
+        for (int id = 2_000_000_001; ids.size() < 1_200; id++) {
+            ids.add(id);
+        }
+        ids.add(last);
+
+        employeeService.deleteEmployeesWithAddress(ids);
+
+        List<AddressOutboxEvent> events = addressOutboxRepo.findAllById(ids);
+        try {
+            assertThat(events).hasSize(ids.size()).allMatch(event -> event.getType() == AddressOutboxEvent.Type.DELETE);
+            assertThat(events).filteredOn(event -> event.getEmployeeId() == last)
+                    .singleElement()
+                    .satisfies(event -> assertThat(event.getPayload()).isNull());
+            assertThat(employeeRepo.existsById(first)).isFalse();
+            assertThat(employeeRepo.existsById(last)).isFalse();
+        } finally {
+            // Keep the other tests' dispatch batches free of these
+            addressOutboxRepo.deleteAllInBatch(events);
+        }
+    }
+
+    // One failure away from giving up, and due now
+    private void lastAttempt(int id) {
+        addressOutboxRepo.findById(id).ifPresent(event -> {
+            event.setAttempts(maxAttempts - 1);
+            event.setNextAttemptAt(Instant.now());
+            addressOutboxRepo.save(event);
+        });
+    }
+
+    private static EmployeeRequest withAddress(String name, int zip) {
+        AddressRequest addressRequest = new AddressRequest();
+        addressRequest.setLane_1(zip + " Outbox Road");
+        addressRequest.setState("Kerala");
+        addressRequest.setZip(zip);
+        EmployeeRequest employeeRequest = employeeRequest(name);
+        employeeRequest.setAddress(addressRequest);
+        return employeeRequest;
+    }
+}
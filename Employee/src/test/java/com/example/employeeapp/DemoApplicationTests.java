@@ -1,13 +1,39 @@
 package com.example.employeeapp;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.embedded.tomcat.TomcatWebServer;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.test.context.ActiveProfiles;
 
-@SpringBootTest
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
 class DemoApplicationTests {
 
+	@Autowired
+	private ServletWebServerApplicationContext context;
+
 	@Test
 	void contextLoads() {
 	}
 
+	// spring.threads.virtual.enabled: Tomcat hands every request to a new virtual thread
+	@Test
+	void requestsAreHandledOnVirtualThreads() throws Exception {
+		Executor requestExecutor = ((TomcatWebServer) context.getWebServer()).getTomcat()
+				.getConnector().getProtocolHandler().getExecutor();
+		CompletableFuture<Thread> handler = new CompletableFuture<>();
+
+		requestExecutor.execute(() -> handler.complete(Thread.currentThread()));
+
+		assertThat(handler.get(5, TimeUnit.SECONDS).isVirtual()).isTrue();
+	}
+
 }
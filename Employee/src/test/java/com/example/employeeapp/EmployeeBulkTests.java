@@ -0,0 +1,115 @@
+package com.example.employeeapp;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.example.employeeapp.EmployeeResponse.EmployeeResponse;
+import com.example.employeeapp.EmployeeService.AddressOutboxDispatcher;
+import com.example.employeeapp.EmployeeService.EmployeeService;
+import com.example.employeeapp.client.AddressTransport;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class EmployeeBulkTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private AddressOutboxDispatcher addressOutboxDispatcher;
+
+    @MockBean
+    private AddressTransport addressTransport;
+
+    @Test
+    void bulkCreateReturnsTheEmployeesInRequestOrder() throws Exception {
+        mockMvc.perform(post("/employee/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[" + employee("bulk-a") + "," + employee("bulk-b") + "]"))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$[*].name").value(contains("bulk-a", "bulk-b")));
+    }
+
+    @Test
+    void bulkCreateRejectsTheWholeRequestOnAnInvalidItem() throws Exception {
+        mockMvc.perform(post("/employee/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[" + employee("bulk-valid") + ",{\"name\":\"bulk-no-email\"}]"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Email is required (item 1)"));
+    }
+
+    @Test
+    void bulkUpdateChangesKnownIdsAndSkipsTheRest() throws Exception {
+        List<EmployeeResponse> created = create("bulk-update");
+        int id = created.get(0).getId();
+
+        mockMvc.perform(put("/employee/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"" + id + "\":" + employee("bulk-updated") + ",\"2147483000\":" + employee("bulk-unknown") + "}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].name").value(contains("bulk-updated")));
+
+        assertThat(employeeService.getEmployeeById(id).getName()).isEqualTo("bulk-updated");
+    }
+
+    @Test
+    void bulkDeleteRemovesTheEmployeesAndSendsOneAddressDelete() throws Exception {
+        List<Integer> ids = create("bulk-delete-a", "bulk-delete-b").stream().map(EmployeeResponse::getId).toList();
+
+        mockMvc.perform(delete("/employee/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(ids)))
+                .andExpect(status().isNoContent());
+
+        assertThat(employeeService.getEmployeeById(ids.get(0))).isNull();
+        assertThat(employeeService.getEmployeeById(ids.get(1))).isNull();
+        addressOutboxDispatcher.dispatch();
+        verify(addressTransport).deleteAddresses(argThat(employeeIds -> employeeIds.containsAll(ids)));
+    }
+
+    private List<EmployeeResponse> create(String... names) throws Exception {
+        StringBuilder body = new StringBuilder("[");
+        for (String name : names) {
+            body.append(body.length() > 1 ? "," : "").append(employee(name));
+        }
+        String response = mockMvc.perform(post("/employee/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body.append("]").toString()))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readValue(response, new TypeReference<List<EmployeeResponse>>() {
+        });
+    }
+
+    private static String employee(String name) {
+        return "{\"name\":\"" + name + "\",\"email\":\"" + name + "@example.com\",\"bloodgroup\":\"O+\"}";
+    }
+}
@@ -0,0 +1,136 @@
+package com.example.employeeapp;
+
+import static com.example.employeeapp.EmployeeWithAddressTests.address;
+import static com.example.employeeapp.EmployeeWithAddressTests.employeeRequest;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.example.employeeapp.EmployeeResponse.AddressResponse;
+import com.example.employeeapp.EmployeeService.EmployeeService;
+import com.example.employeeapp.client.AddressTransport;
+import com.example.employeeapp.employeeEntity.Employee;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class EmployeeConditionalRequestTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockBean
+    private AddressTransport addressTransport;
+
+    @Test
+    void rowTagNamesTheEmployeeAndItsVersion() throws Exception {
+        int id = employeeService.createEmployee(employeeRequest("tagged")).getId();
+
+        mockMvc.perform(get("/employee/" + id))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + id + "-0\""));
+        mockMvc.perform(get("/employee/" + id).param("fields", "name"))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + id + "-0-id.name.version\""));
+    }
+
+    @Test
+    void withAddressTagNamesBothRows() throws Exception {
+        int id = employeeService.createEmployee(employeeRequest("tagged-with-address")).getId();
+        AddressResponse address = address(id, 680040);
+        address.setAddressId(41);
+        address.setVersion(3L);
+        when(addressTransport.getAddress(anyInt())).thenReturn(address);
+
+        mockMvc.perform(get("/employee/" + id + "/with-address"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + id + "-0-41-3\""));
+    }
+
+    @Test
+    void updateWithTheCurrentTagSucceedsAndAStaleTagIsRefused() throws Exception {
+        int id = employeeService.createEmployee(employeeRequest("conditional")).getId();
+        String tag = mockMvc.perform(get("/employee/" + id)).andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(put("/employee/" + id)
+                .header(HttpHeaders.IF_MATCH, tag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(employeeJson("conditional-1")))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + id + "-1\""))
+                .andExpect(jsonPath("$.version").value(1));
+        mockMvc.perform(put("/employee/" + id)
+                .header(HttpHeaders.IF_MATCH, tag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(employeeJson("conditional-2")))
+                .andExpect(status().isPreconditionFailed());
+
+        assertThat(employeeService.getEmployeeById(id).getName()).isEqualTo("conditional-1");
+    }
+
+    @Test
+    void rowChangedBehindTheCachedCopyIsAConflictOrAFailedPrecondition() throws Exception {
+        int id = employeeService.createEmployee(employeeRequest("bumped")).getId();
+        String tag = mockMvc.perform(get("/employee/" + id)).andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        // Another instance's write: the row moves on while this instance's cached copy stays at version 0
+        jdbcTemplate.update("UPDATE employee SET name = 'elsewhere', version = version + 1 WHERE employee_id = ?", id);
+
+        try {
+            mockMvc.perform(put("/employee/" + id)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(employeeJson("bumped-1")))
+                    .andExpect(status().isConflict());
+            mockMvc.perform(put("/employee/" + id)
+                    .header(HttpHeaders.IF_MATCH, tag)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(employeeJson("bumped-2")))
+                    .andExpect(status().isPreconditionFailed());
+        } finally {
+            entityManagerFactory.getCache().evict(Employee.class, id);
+        }
+
+        assertThat(employeeService.getEmployeeById(id).getName()).isEqualTo("elsewhere");
+    }
+
+    @Test
+    void anotherEmployeesTagAtTheSameVersionDoesNotMatch() throws Exception {
+        int first = employeeService.createEmployee(employeeRequest("first-tagged")).getId();
+        int second = employeeService.createEmployee(employeeRequest("second-tagged")).getId();
+
+        mockMvc.perform(put("/employee/" + second)
+                .header(HttpHeaders.IF_MATCH, "\"" + first + "-0\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(employeeJson("wrong")))
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    private static String employeeJson(String name) {
+        return "{\"name\":\"" + name + "\",\"email\":\"" + name + "@example.com\",\"bloodgroup\":\"O+\"}";
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.employeeapp;
+
+import static com.example.employeeapp.EmployeeWithAddressTests.employeeRequest;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.example.employeeapp.EmployeeResponse.EmployeeFields;
+import com.example.employeeapp.EmployeeResponse.EmployeeResponse;
+import com.example.employeeapp.EmployeeService.EmployeeService;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class EmployeeFieldsTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void requestedFieldsComeBackInResponseOrderWithIdAndVersion() {
+        assertThat(EmployeeFields.parse(List.of("email", " name"))).containsExactly("id", "name", "email", "version");
+        assertThat(EmployeeFields.parse(List.of(""))).containsExactly("id", "version");
+        assertThat(EmployeeFields.parse(null)).isNull();
+    }
+
+    @Test
+    void listingSelectsOnlyTheRequestedColumnsAndKeepsTheCursor() throws Exception {
+        List<Integer> ids = IntStream.range(0, 3)
+                .mapToObj(i -> employeeService.createEmployee(employeeRequest("sparse-" + i)).getId())
+                .toList();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        long loads = statistics.getEntityLoadCount();
+
+        mockMvc.perform(get("/employee")
+                .param("fields", "name")
+                .param("limit", "2")
+                .param("after", String.valueOf(ids.get(0) - 1)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].id").value(contains(ids.get(0), ids.get(1))))
+                .andExpect(jsonPath("$[*].name").value(contains("sparse-0", "sparse-1")))
+                .andExpect(jsonPath("$[0].version").exists())
+                .andExpect(jsonPath("$[0].email").doesNotExist())
+                .andExpect(jsonPath("$[0].bloodgroup").doesNotExist())
+                .andExpect(header().string("X-Next-Cursor", String.valueOf(ids.get(1))));
+
+        // Tuple rows only: no employee was hydrated for the trimmed listing
+        assertThat(statistics.getEntityLoadCount()).isEqualTo(loads);
+    }
+
+    @Test
+    void singleReadAndSearchAreTrimmedToo() throws Exception {
+        EmployeeResponse employee = employeeService.createEmployee(employeeRequest("trimmed"));
+
+        mockMvc.perform(get("/employee/" + employee.getId()).param("fields", "email"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(employee.getId()))
+                .andExpect(jsonPath("$.email").value("trimmed@example.com"))
+                .andExpect(jsonPath("$.version").value(employee.getVersion()))
+                .andExpect(jsonPath("$.name").doesNotExist());
+        mockMvc.perform(get("/employee/search").param("q", "trimmed").param("fields", "name"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].name").value("trimmed"))
+                .andExpect(jsonPath("$[0].email").doesNotExist());
+    }
+
+    @Test
+    void unknownFieldIsABadRequest() throws Exception {
+        mockMvc.perform(get("/employee").param("fields", "name,salary"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value(containsString("salary")));
+        mockMvc.perform(get("/employee/1").param("fields", "salary"))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.employeeapp;
+
+import static com.example.employeeapp.EmployeeWithAddressTests.address;
+import static com.example.employeeapp.EmployeeWithAddressTests.employeeRequest;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.example.employeeapp.EmployeeResponse.EmployeeWithAddressResponse;
+import com.example.employeeapp.EmployeeService.EmployeeService;
+import com.example.employeeapp.client.AddressTransport;
+import com.example.employeeapp.datasource.RecentWrites;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class EmployeeLookupTests {
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private RecentWrites recentWrites;
+
+    @MockBean
+    private AddressTransport addressTransport;
+
+    @Test
+    void concurrentLookupsOfOneAddressShareASingleCall() throws Exception {
+        int id = settledEmployee("single-flight");
+        CountDownLatch release = new CountDownLatch(1);
+        when(addressTransport.getAddress(id)).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return address(id, 680070);
+        });
+
+        CompletableFuture<EmployeeWithAddressResponse> first = CompletableFuture.supplyAsync(() -> employeeService.getEmployeeWithAddress(id));
+        verify(addressTransport, timeout(5000)).getAddress(id);
+        CompletableFuture<EmployeeWithAddressResponse> second = CompletableFuture.supplyAsync(() -> employeeService.getEmployeeWithAddress(id));
+        Thread.sleep(200);
+        release.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS).getAddress().getZip()).isEqualTo(680070);
+        assertThat(second.get(5, TimeUnit.SECONDS).getAddress().getZip()).isEqualTo(680070);
+        verify(addressTransport, times(1)).getAddress(id);
+    }
+
+    @Test
+    void callerWhoJustWroteDoesNotJoinALookupAlreadyInFlight() throws Exception {
+        int id = settledEmployee("read-your-writes");
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+        when(addressTransport.getAddress(id)).thenAnswer(invocation -> {
+            if (calls.incrementAndGet() == 1) {
+                release.await(5, TimeUnit.SECONDS);
+                return address(id, 680071);
+            }
+            return address(id, 680072);
+        });
+
+        CompletableFuture<EmployeeWithAddressResponse> stale = CompletableFuture.supplyAsync(() -> employeeService.getEmployeeWithAddress(id));
+        verify(addressTransport, timeout(5000)).getAddress(id);
+        employeeService.updateEmployee(id, employeeRequest("read-your-writes-renamed"), null);
+
+        EmployeeWithAddressResponse own = employeeService.getEmployeeWithAddress(id);
+        release.countDown();
+
+        assertThat(own.getEmployee().getName()).isEqualTo("read-your-writes-renamed");
+        assertThat(own.getAddress().getZip()).isEqualTo(680072);
+        assertThat(stale.get(5, TimeUnit.SECONDS).getAddress().getZip()).isEqualTo(680071);
+        verify(addressTransport, times(2)).getAddress(id);
+    }
+
+    // An employee whose read-your-writes window has passed, so its lookups are coalesced again
+    private int settledEmployee(String name) throws InterruptedException {
+        int id = employeeService.createEmployee(employeeRequest(name)).getId();
+        while (recentWrites.isRecent(id)) {
+            Thread.sleep(100);
+        }
+        return id;
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.employeeapp;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.employeeapp.EmployeeResponse.EmployeeRequest;
+import com.example.employeeapp.EmployeeResponse.EmployeeResponse;
+import com.example.employeeapp.employeeEntity.Employee;
+import com.example.employeeapp.mapper.EmployeeMapper;
+
+class EmployeeMapperTests {
+
+    private final EmployeeMapper employeeMapper = new EmployeeMapper();
+
+    @Test
+    void requestFieldsAreCopiedOntoANewEntity() {
+        Employee employee = employeeMapper.toEntity(employeeRequest("Asha", "asha@example.com", "A+"));
+
+        assertThat(employee.getName()).isEqualTo("Asha");
+        assertThat(employee.getEmail()).isEqualTo("asha@example.com");
+        assertThat(employee.getBloodgroup()).isEqualTo("A+");
+    }
+
+    @Test
+    void copyOverwritesTheUpdatableFieldsButKeepsTheId() {
+        Employee employee = employeeMapper.toEntity(employeeRequest("Asha", "asha@example.com", "A+"));
+        employee.setId(42);
+
+        employeeMapper.copyToEntity(employeeRequest("Ravi", "ravi@example.com", null), employee);
+
+        assertThat(employee.getId()).isEqualTo(42);
+        assertThat(employee.getName()).isEqualTo("Ravi");
+        assertThat(employee.getEmail()).isEqualTo("ravi@example.com");
+        assertThat(employee.getBloodgroup()).isNull();
+    }
+
+    @Test
+    void responseCarriesEveryColumn() {
+        Employee employee = employeeMapper.toEntity(employeeRequest("Asha", "asha@example.com", "B-"));
+        employee.setId(7);
+
+        EmployeeResponse employeeResponse = employeeMapper.toResponse(employee);
+
+        assertThat(employeeResponse.getId()).isEqualTo(7);
+        assertThat(employeeResponse.getName()).isEqualTo("Asha");
+        assertThat(employeeResponse.getEmail()).isEqualTo("asha@example.com");
+        assertThat(employeeResponse.getBloodgroup()).isEqualTo("B-");
+        assertThat(employeeResponse.getVersion()).isEqualTo(employee.getVersion());
+    }
+
+    private static EmployeeRequest employeeRequest(String name, String email, String bloodgroup) {
+        EmployeeRequest employeeRequest = new EmployeeRequest();
+        employeeRequest.setName(name);
+        employeeRequest.setEmail(email);
+        employeeRequest.setBloodgroup(bloodgroup);
+        return employeeRequest;
+    }
+}
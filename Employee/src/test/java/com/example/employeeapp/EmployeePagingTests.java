@@ -0,0 +1,129 @@
+package com.example.employeeapp;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import com.example.employeeapp.EmployeeResponse.EmployeeRequest;
+import com.example.employeeapp.EmployeeResponse.EmployeeResponse;
+import com.example.employeeapp.EmployeeService.EmployeeService;
+import com.example.employeeapp.employeeEntity.Employee;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class EmployeePagingTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void pagesFollowTheCursorInIdOrder() throws Exception {
+        List<Integer> ids = createEmployees("paging", 5);
+
+        mockMvc.perform(get("/employee").param("limit", "2").param("after", String.valueOf(ids.get(0) - 1)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].id").value(contains(ids.get(0), ids.get(1))))
+                .andExpect(header().string("X-Next-Cursor", String.valueOf(ids.get(1))));
+        mockMvc.perform(get("/employee").param("limit", "2").param("after", String.valueOf(ids.get(1))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].id").value(contains(ids.get(2), ids.get(3))))
+                .andExpect(header().string("X-Next-Cursor", String.valueOf(ids.get(3))));
+    }
+
+    @Test
+    void shortLastPageHasNoCursor() throws Exception {
+        List<Integer> ids = createEmployees("last-page", 1);
+        int lastId = ids.get(0);
+
+        mockMvc.perform(get("/employee").param("limit", "2").param("after", String.valueOf(lastId - 1)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].id").value(contains(lastId)))
+                .andExpect(header().doesNotExist("X-Next-Cursor"));
+    }
+
+    @Test
+    void streamWritesOneEmployeePerLine() throws Exception {
+        List<Integer> ids = createEmployees("stream", 3);
+
+        MvcResult started = mockMvc.perform(get("/employee/stream")).andReturn();
+        String body = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        List<String> lines = body.lines().toList();
+        for (int id : ids) {
+            assertThat(lines).anyMatch(line -> line.startsWith("{\"id\":" + id + ","));
+        }
+    }
+
+    @Test
+    void keysetPageIsReadFromTheReplica() {
+        createEmployees("replica-page", 1);
+        double before = replicaConnectionUses();
+
+        employeeService.getEmployeesAfter(0, 1);
+
+        assertThat(replicaConnectionUses()).isGreaterThan(before);
+    }
+
+    @Test
+    void readRightAfterAWriteIsServedByThePrimary() {
+        int id = createEmployees("read-your-writes", 1).get(0);
+        entityManagerFactory.getCache().evict(Employee.class, id);
+        double before = replicaConnectionUses();
+
+        EmployeeResponse employee = employeeService.getEmployeeById(id);
+
+        assertThat(employee.getName()).isEqualTo("read-your-writes-0");
+        assertThat(replicaConnectionUses()).isEqualTo(before);
+    }
+
+    private List<Integer> createEmployees(String prefix, int count) {
+        List<EmployeeRequest> employeeRequests = IntStream.range(0, count)
+                .mapToObj(i -> employeeRequest(prefix + "-" + i))
+                .toList();
+        return employeeService.createEmployees(employeeRequests).stream().map(EmployeeResponse::getId).toList();
+    }
+
+    private static EmployeeRequest employeeRequest(String name) {
+        EmployeeRequest employeeRequest = new EmployeeRequest();
+        employeeRequest.setName(name);
+        employeeRequest.setEmail(name + "@example.com");
+        employeeRequest.setBloodgroup("O+");
+        return employeeRequest;
+    }
+
+    private double replicaConnectionUses() {
+        Timer usage = meterRegistry.find("hikaricp.connections.usage").tag("pool", "employee-replica-pool").timer();
+        return usage == null ? 0 : usage.count();
+    }
+}
@@ -0,0 +1,121 @@
+package com.example.employeeapp;
+
+import static com.example.employeeapp.EmployeeWithAddressTests.employeeRequest;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import com.example.employeeapp.EmployeeResponse.EmployeeResponse;
+import com.example.employeeapp.EmployeeService.EmployeeService;
+import com.example.employeeapp.employeeEntity.Employee;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class EmployeePatchTests {
+
+    private static final MediaType MERGE_PATCH_JSON = MediaType.valueOf("application/merge-patch+json");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void nullClearsAFieldAndAbsentFieldsKeepTheirValues() throws Exception {
+        int id = employeeService.createEmployee(employeeRequest("patched")).getId();
+
+        sendPatch(id, null, "{\"bloodgroup\":null}")
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("patched"))
+                .andExpect(jsonPath("$.email").value("patched@example.com"))
+                .andExpect(jsonPath("$.version").value(1));
+
+        EmployeeResponse employee = employeeService.getEmployeeById(id);
+        assertThat(employee.getBloodgroup()).isNull();
+        assertThat(employee.getName()).isEqualTo("patched");
+    }
+
+    @Test
+    void unknownReadOnlyAndRequiredFieldsAreRejectedWithoutAWrite() throws Exception {
+        int id = employeeService.createEmployee(employeeRequest("rejected")).getId();
+
+        sendPatch(id, null, "{\"salary\":1}")
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value(containsString("salary")));
+        sendPatch(id, null, "{\"email\":\"new@example.com\",\"id\":5}").andExpect(status().isBadRequest());
+        sendPatch(id, null, "{\"version\":9}").andExpect(status().isBadRequest());
+        sendPatch(id, null, "{\"name\":null}").andExpect(status().isBadRequest());
+        sendPatch(id, null, "{\"bloodgroup\":7}").andExpect(status().isBadRequest());
+        sendPatch(id, null, "[]").andExpect(status().isBadRequest());
+
+        EmployeeResponse employee = employeeService.getEmployeeById(id);
+        assertThat(employee.getVersion()).isZero();
+        assertThat(employee.getEmail()).isEqualTo("rejected@example.com");
+    }
+
+    @Test
+    void ifMatchMakesThePatchConditional() throws Exception {
+        int id = employeeService.createEmployee(employeeRequest("conditional-patch")).getId();
+        String tag = "\"" + id + "-0\"";
+
+        sendPatch(id, tag, "{\"bloodgroup\":\"B+\"}")
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + id + "-1\""));
+        sendPatch(id, tag, "{\"bloodgroup\":\"AB-\"}")
+                .andExpect(status().isPreconditionFailed());
+
+        assertThat(employeeService.getEmployeeById(id).getBloodgroup()).isEqualTo("B+");
+    }
+
+    @Test
+    void onlyThePatchedColumnsAreWritten() throws Exception {
+        int id = employeeService.createEmployee(employeeRequest("dynamic")).getId();
+        // A column changed behind the cached copy without a version bump; a full-row UPDATE would put it back
+        jdbcTemplate.update("UPDATE employee SET name = 'renamed elsewhere' WHERE employee_id = ?", id);
+
+        try {
+            sendPatch(id, null, "{\"email\":\"dynamic-1@example.com\"}").andExpect(status().isOk());
+        } finally {
+            entityManagerFactory.getCache().evict(Employee.class, id);
+        }
+
+        EmployeeResponse employee = employeeService.getEmployeeById(id);
+        assertThat(employee.getName()).isEqualTo("renamed elsewhere");
+        assertThat(employee.getEmail()).isEqualTo("dynamic-1@example.com");
+    }
+
+    private ResultActions sendPatch(int id, String ifMatch, String body) throws Exception {
+        MockHttpServletRequestBuilder request = patch("/employee/" + id)
+                .contentType(MERGE_PATCH_JSON)
+                .content(body);
+        if (ifMatch != null) {
+            request.header(HttpHeaders.IF_MATCH, ifMatch);
+        }
+        return mockMvc.perform(request);
+    }
+}
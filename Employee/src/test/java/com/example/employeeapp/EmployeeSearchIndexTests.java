@@ -0,0 +1,104 @@
+package com.example.employeeapp;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.example.employeeapp.search.EmployeeSearchIndex;
+
+class EmployeeSearchIndexTests {
+
+    private final EmployeeSearchIndex searchIndex = new EmployeeSearchIndex();
+
+    @BeforeEach
+    void index() {
+        searchIndex.put(1, "Anita Sharma", "anita@corp.io");
+        searchIndex.put(2, "Rahul Nair", "rahul.nair@corp.io");
+        searchIndex.put(3, "Sharmila", "s@home.io");
+    }
+
+    @Test
+    void longerQueriesMatchAnywhereInNameOrEmail() {
+        assertThat(searchIndex.search("SHARM", 10)).containsExactly(1, 3);
+        assertThat(searchIndex.search("hul.na", 10)).containsExactly(2);
+        assertThat(searchIndex.search("corp.io", 10)).containsExactly(1, 2);
+        assertThat(searchIndex.search("corp.io", 1)).containsExactly(1);
+    }
+
+    @Test
+    void trigramsPresentWithoutTheWholeQueryAreNotAMatch() {
+        searchIndex.put(4, "Abcx Bcd", null);
+
+        // Both "abc" and "bcd" are filed under id 4, but "abcd" is not in its text
+        assertThat(searchIndex.search("abcd", 10)).isEmpty();
+        assertThat(searchIndex.search("abc", 10)).containsExactly(4);
+    }
+
+    @Test
+    void shortQueriesMatchTheStartOfAWord() {
+        assertThat(searchIndex.search("n", 10)).containsExactly(2);
+        assertThat(searchIndex.search("sh", 10)).containsExactly(1, 3);
+        assertThat(searchIndex.search("s", 10)).containsExactly(1, 3);
+        assertThat(searchIndex.search("co", 10)).containsExactly(1, 2);
+        assertThat(searchIndex.search("hu", 10)).isEmpty();
+        assertThat(searchIndex.search("  ", 10)).isEmpty();
+    }
+
+    @Test
+    void renameMovesTheEmployeeToTheNewGramsOnly() {
+        searchIndex.put(1, "Anita Menon", "anita@corp.io");
+
+        assertThat(searchIndex.search("sharma", 10)).isEmpty();
+        assertThat(searchIndex.search("sharm", 10)).containsExactly(3);
+        assertThat(searchIndex.search("sh", 10)).containsExactly(3);
+        assertThat(searchIndex.search("menon", 10)).containsExactly(1);
+        assertThat(searchIndex.search("me", 10)).containsExactly(1);
+        assertThat(searchIndex.search("anita", 10)).containsExactly(1);
+        assertThat(searchIndex.size()).isEqualTo(3);
+    }
+
+    @Test
+    void removedEmployeesLeaveNoPostingsBehind() {
+        searchIndex.remove(2);
+
+        assertThat(searchIndex.search("nair", 10)).isEmpty();
+        assertThat(searchIndex.search("r", 10)).isEmpty();
+        assertThat(searchIndex.search("corp", 10)).containsExactly(1);
+
+        searchIndex.removeAll(List.of(1, 3, 99));
+
+        assertThat(searchIndex.size()).isZero();
+        assertThat(searchIndex.search("corp", 10)).isEmpty();
+        assertThat(searchIndex.search("s", 10)).isEmpty();
+
+        // Ids come back in order when re-added out of order
+        searchIndex.put(3, "Sharmila", null);
+        searchIndex.put(1, "Anita Sharma", null);
+        assertThat(searchIndex.search("sharm", 10)).containsExactly(1, 3);
+    }
+
+    @Test
+    void searchesDuringRenamesSeeEitherTheOldOrTheNewName() throws Exception {
+        CompletableFuture<Void> renames = CompletableFuture.runAsync(() -> {
+            for (int i = 0; i < 20_000; i++) {
+                searchIndex.put(2, i % 2 == 0 ? "Rahul Menon" : "Rahul Nair", "rahul@corp.io");
+            }
+        });
+
+        while (!renames.isDone()) {
+            // "rahul" is in both names, so its postings never lose the id
+            assertThat(searchIndex.search("rahul", 10)).containsExactly(2);
+            assertThat(searchIndex.search("nair", 10)).isSubsetOf(2);
+            assertThat(searchIndex.search("menon", 10)).isSubsetOf(2);
+        }
+        renames.get(10, TimeUnit.SECONDS);
+
+        assertThat(searchIndex.search("nair", 10)).containsExactly(2);
+        assertThat(searchIndex.search("menon", 10)).isEmpty();
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.employeeapp;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.example.employeeapp.EmployeeResponse.AddressResponse;
+import com.example.employeeapp.EmployeeResponse.EmployeeRequest;
+import com.example.employeeapp.EmployeeResponse.EmployeeResponse;
+import com.example.employeeapp.EmployeeResponse.EmployeeWithAddressResponse;
+import com.example.employeeapp.EmployeeService.EmployeeService;
+import com.example.employeeapp.client.AddressTransport;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class EmployeeWithAddressTests {
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @MockBean
+    private AddressTransport addressTransport;
+
+    @Test
+    void listingFetchesEveryAddressInOneBatchCall() {
+        List<EmployeeResponse> employees = employeeService.createEmployees(List.of(
+                employeeRequest("batch-with-address"), employeeRequest("batch-without-address")));
+        int withAddress = employees.get(0).getId();
+        int withoutAddress = employees.get(1).getId();
+        when(addressTransport.getAddresses(anyList())).thenReturn(List.of(address(withAddress, 680010)));
+
+        Map<Integer, EmployeeWithAddressResponse> byId = employeeService.getAllEmployeesWithAddress().stream()
+                .collect(Collectors.toMap(response -> response.getEmployee().getId(), Function.identity()));
+
+        assertThat(byId.get(withAddress).getAddress().getZip()).isEqualTo(680010);
+        assertThat(byId.get(withoutAddress).getAddress()).isNull();
+        verify(addressTransport, times(1)).getAddresses(anyList());
+        verify(addressTransport, never()).getAddress(anyInt());
+    }
+
+    @Test
+    void addressLookupRunsOnAVirtualThreadAlongsideTheEmployeeRead() {
+        int id = employeeService.createEmployee(employeeRequest("async-lookup")).getId();
+        AtomicReference<Thread> lookupThread = new AtomicReference<>();
+        when(addressTransport.getAddress(id)).thenAnswer(invocation -> {
+            lookupThread.set(Thread.currentThread());
+            return address(id, 680020);
+        });
+
+        EmployeeWithAddressResponse response = employeeService.getEmployeeWithAddress(id);
+
+        assertThat(response.getEmployee().getName()).isEqualTo("async-lookup");
+        assertThat(response.getAddress().getZip()).isEqualTo(680020);
+        assertThat(lookupThread.get()).isNotSameAs(Thread.currentThread());
+        assertThat(lookupThread.get().isVirtual()).isTrue();
+    }
+
+    static EmployeeRequest employeeRequest(String name) {
+        EmployeeRequest employeeRequest = new EmployeeRequest();
+        employeeRequest.setName(name);
+        employeeRequest.setEmail(name + "@example.com");
+        employeeRequest.setBloodgroup("O+");
+        return employeeRequest;
+    }
+
+    static AddressResponse address(int employeeId, int zip) {
+        AddressResponse addressResponse = new AddressResponse();
+        addressResponse.setEmployeeId(employeeId);
+        addressResponse.setLane_1(zip + " Test Road");
+        addressResponse.setState("Kerala");
+        addressResponse.setZip(zip);
+        return addressResponse;
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.employeeapp;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.Address.grpc.Address;
+import com.Address.grpc.AddressServiceGrpc;
+import com.Address.grpc.Addresses;
+import com.Address.grpc.EmployeeId;
+import com.Address.grpc.EmployeeIds;
+import com.example.employeeapp.EmployeeResponse.AddressResponse;
+import com.example.employeeapp.client.GrpcAddressTransport;
+import com.example.employeeapp.config.AddressClientProperties;
+
+import io.grpc.ManagedChannel;
+import io.grpc.ManagedChannelBuilder;
+import io.grpc.Server;
+import io.grpc.ServerBuilder;
+import io.grpc.Status;
+import io.grpc.stub.StreamObserver;
+
+class GrpcAddressTransportTests {
+
+    private static final Map<Integer, Address> ADDRESSES = Map.of(
+            1, Address.newBuilder().setAddressId(11).setEmployeeId(1).setLane1("1 Grpc Road").setZip(680001).setVersion(2).build(),
+            3, Address.newBuilder().setAddressId(13).setEmployeeId(3).setZip(680003).build(),
+            5, Address.newBuilder().setAddressId(15).setEmployeeId(5).setZip(680005).build());
+
+    // Employee ids per EmployeeIds message the server received
+    private final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+
+    private Server server;
+    private ManagedChannel channel;
+    private GrpcAddressTransport transport;
+
+    @BeforeEach
+    void startServer() throws Exception {
+        server = ServerBuilder.forPort(0).addService(new StubAddressService()).build().start();
+        channel = ManagedChannelBuilder.forAddress("localhost", server.getPort()).usePlaintext().build();
+        AddressClientProperties properties = new AddressClientProperties();
+        properties.setGrpcBatchSize(2);
+        transport = new GrpcAddressTransport(channel, properties);
+    }
+
+    @AfterEach
+    void stopServer() throws Exception {
+        channel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+        server.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void batchLookupStreamsTheIdsInBatchesOnOneCall() {
+        List<AddressResponse> found = transport.getAddresses(List.of(1, 2, 3, 4, 5));
+
+        assertThat(batchSizes).containsExactly(2, 2, 1);
+        assertThat(found).extracting(AddressResponse::getEmployeeId).containsExactlyInAnyOrder(1, 3, 5);
+    }
+
+    @Test
+    void singleLookupMapsAbsentFieldsToNullAndNotFoundToNull() {
+        AddressResponse address = transport.getAddress(1);
+        AddressResponse sparse = transport.getAddress(3);
+
+        assertThat(address.getAddressId()).isEqualTo(11);
+        assertThat(address.getLane_1()).isEqualTo("1 Grpc Road");
+        assertThat(address.getVersion()).isEqualTo(2);
+        assertThat(sparse.getLane_1()).isNull();
+        assertThat(sparse.getState()).isNull();
+        assertThat(transport.getAddress(2)).isNull();
+    }
+
+    private class StubAddressService extends AddressServiceGrpc.AddressServiceImplBase {
+
+        @Override
+        public void getAddress(EmployeeId request, StreamObserver<Address> responseObserver) {
+            Address address = ADDRESSES.get(request.getEmployeeId());
+            if (address == null) {
+                responseObserver.onError(Status.NOT_FOUND.asRuntimeException());
+                return;
+            }
+            responseObserver.onNext(address);
+            responseObserver.onCompleted();
+        }
+
+        @Override
+        public StreamObserver<EmployeeIds> getAddresses(StreamObserver<Addresses> responseObserver) {
+            return new StreamObserver<>() {
+                @Override
+                public void onNext(EmployeeIds batch) {
+                    batchSizes.add(batch.getEmployeeIdsCount());
+                    Addresses.Builder found = Addresses.newBuilder();
+                    batch.getEmployeeIdsList().stream()
+                            .map(ADDRESSES::get)
+                            .filter(address -> address != null)
+                            .forEach(found::addAddresses);
+                    responseObserver.onNext(found.build());
+                }
+
+                @Override
+                public void onError(Throwable t) {
+                }
+
+                @Override
+                public void onCompleted() {
+                    responseObserver.onCompleted();
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.employeeapp;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.client.ExpectedCount.times;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.content;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.headerDoesNotExist;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+
+import com.example.employeeapp.EmployeeResponse.AddressResponse;
+import com.example.employeeapp.client.HttpAddressTransport;
+import com.example.employeeapp.config.AddressClientProperties;
+
+class HttpAddressTransportTests {
+
+    private final RestTemplate restTemplate = new RestTemplate();
+    private MockRestServiceServer addressService;
+    private HttpAddressTransport transport;
+
+    @BeforeEach
+    void bindAddressService() {
+        addressService = MockRestServiceServer.bindTo(restTemplate).build();
+        AddressClientProperties properties = new AddressClientProperties();
+        properties.setBatchSize(2);
+        transport = new HttpAddressTransport(restTemplate, properties);
+    }
+
+    @Test
+    void batchLookupIsSentInRequestsOfAtMostBatchSizeIds() {
+        addressService.expect(requestTo("/address/employee/batch"))
+                .andExpect(content().json("[1,2]"))
+                .andRespond(withSuccess(addresses(1), MediaType.APPLICATION_JSON));
+        addressService.expect(requestTo("/address/employee/batch"))
+                .andExpect(content().json("[3,4]"))
+                .andRespond(withSuccess(addresses(3, 4), MediaType.APPLICATION_JSON));
+        addressService.expect(requestTo("/address/employee/batch"))
+                .andExpect(content().json("[5]"))
+                .andRespond(withSuccess("[]", MediaType.APPLICATION_JSON));
+
+        List<AddressResponse> found = transport.getAddresses(List.of(1, 2, 3, 4, 5));
+
+        addressService.verify();
+        assertThat(found).extracting(AddressResponse::getEmployeeId).containsExactly(1, 3, 4);
+    }
+
+    @Test
+    void bulkDeleteIsSentInRequestsOfAtMostBatchSizeIds() {
+        addressService.expect(times(2), requestTo("/address/employee/bulk"))
+                .andExpect(method(HttpMethod.DELETE))
+                .andRespond(withSuccess());
+
+        transport.deleteAddresses(List.of(1, 2, 3));
+
+        addressService.verify();
+    }
+
+    @Test
+    void copyIsRevalidatedWithItsTagAndReplacedWhenTheAddressWasCreatedAgain() {
+        addressService.expect(requestTo("/address/employee/7"))
+                .andExpect(headerDoesNotExist(HttpHeaders.IF_NONE_MATCH))
+                .andRespond(withSuccess(address(7, 107), MediaType.APPLICATION_JSON).headers(eTag("\"107-0\"")));
+        // Deleted and created again since: same version, new address id, so a new tag and a full response
+        addressService.expect(requestTo("/address/employee/7"))
+                .andExpect(header(HttpHeaders.IF_NONE_MATCH, "\"107-0\""))
+                .andRespond(withSuccess(address(7, 108), MediaType.APPLICATION_JSON).headers(eTag("\"108-0\"")));
+        addressService.expect(requestTo("/address/employee/7"))
+                .andExpect(header(HttpHeaders.IF_NONE_MATCH, "\"108-0\""))
+                .andRespond(withStatus(HttpStatus.NOT_MODIFIED));
+
+        assertThat(transport.getAddress(7).getAddressId()).isEqualTo(107);
+        assertThat(transport.getAddress(7).getAddressId()).isEqualTo(108);
+        assertThat(transport.getAddress(7).getAddressId()).isEqualTo(108);
+        addressService.verify();
+    }
+
+    private static HttpHeaders eTag(String tag) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setETag(tag);
+        return headers;
+    }
+
+    private static String address(int employeeId, int addressId) {
+        return "{\"addressId\":" + addressId + ",\"employeeId\":" + employeeId + ",\"zip\":680001,\"version\":0}";
+    }
+
+    private static String addresses(int... employeeIds) {
+        StringBuilder json = new StringBuilder("[");
+        for (int employeeId : employeeIds) {
+            if (json.length() > 1) {
+                json.append(',');
+            }
+            json.append(address(employeeId, employeeId + 100));
+        }
+        return json.append(']').toString();
+    }
+}
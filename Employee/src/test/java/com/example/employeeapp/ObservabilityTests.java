@@ -0,0 +1,94 @@
+package com.example.employeeapp;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.endsWith;
+import static org.hamcrest.Matchers.startsWith;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.client.RestTemplate;
+
+import com.example.employeeapp.EmployeeService.EmployeeService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@ActiveProfiles("test")
+class ObservabilityTests {
+
+    private static final String TRACE_ID = "4bf92f3577b34da6a3ce929d0e0e4736";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private RestTemplate restTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private MockRestServiceServer addressService;
+
+    @BeforeEach
+    void bindAddressService() {
+        addressService = MockRestServiceServer.bindTo(restTemplate).build();
+    }
+
+    @Test
+    void forkedAddressCallCarriesTheIncomingTrace() throws Exception {
+        int id = employeeService.createEmployee(EmployeeWithAddressTests.employeeRequest("traced")).getId();
+        addressService.expect(requestTo(endsWith("/address/employee/" + id)))
+                .andExpect(method(HttpMethod.GET))
+                .andExpect(header("traceparent", startsWith("00-" + TRACE_ID + "-")))
+                .andRespond(withSuccess("{\"addressId\":1,\"employeeId\":" + id + ",\"zip\":680030,\"version\":0}",
+                        MediaType.APPLICATION_JSON));
+
+        mockMvc.perform(get("/employee/" + id + "/with-address")
+                .header("traceparent", "00-" + TRACE_ID + "-00f067aa0ba902b7-01"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.address.zip").value(680030));
+
+        addressService.verify();
+    }
+
+    @Test
+    void clientAndServerLatenciesAreTaggedByTemplateAndScraped() throws Exception {
+        int id = employeeService.createEmployee(EmployeeWithAddressTests.employeeRequest("metered")).getId();
+        addressService.expect(requestTo(endsWith("/address/employee/" + id)))
+                .andRespond(withSuccess("{\"addressId\":2,\"employeeId\":" + id + ",\"zip\":680031,\"version\":0}",
+                        MediaType.APPLICATION_JSON));
+
+        mockMvc.perform(get("/employee/" + id + "/with-address")).andExpect(status().isOk());
+
+        assertThat(meterRegistry.find("http.client.requests").tag("uri", "/address/employee/{employeeId}").timer())
+                .isNotNull();
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("http_server_requests_seconds_bucket{")))
+                .andExpect(content().string(containsString("uri=\"/employee/{id}/with-address\"")))
+                .andExpect(content().string(containsString("http_client_requests_seconds_bucket{")));
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.employeeapp;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.employeeapp.datasource.RecentWrites;
+import com.example.employeeapp.datasource.ReplicaRoutingDataSource;
+
+class ReplicaRoutingTests {
+
+    private final DataSource primary = mock(DataSource.class);
+    private final DataSource replica = mock(DataSource.class);
+    private final Connection primaryConnection = mock(Connection.class);
+    private final Connection replicaConnection = mock(Connection.class);
+    private ReplicaRoutingDataSource routing;
+
+    @BeforeEach
+    void route() throws SQLException {
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(replica.getConnection()).thenReturn(replicaConnection);
+        routing = new ReplicaRoutingDataSource(primary, replica);
+        routing.afterPropertiesSet();
+    }
+
+    @AfterEach
+    void clearTransaction() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    void onlyReadOnlyTransactionsGoToTheReplica() throws SQLException {
+        assertThat(routing.getConnection()).isSameAs(primaryConnection);
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertThat(routing.getConnection()).isSameAs(replicaConnection);
+    }
+
+    @Test
+    void pinnedReadGoesToThePrimaryAndThePinIsUndoneAfterwards() throws SQLException {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertThat(ReplicaRoutingDataSource.onPrimary(this::connection)).isSameAs(primaryConnection);
+        assertThat(ReplicaRoutingDataSource.onPrimary(() -> ReplicaRoutingDataSource.onPrimary(this::connection)))
+                .isSameAs(primaryConnection);
+        assertThat(routing.getConnection()).isSameAs(replicaConnection);
+    }
+
+    @Test
+    void idsWrittenWithinTheWindowAreReadFromThePrimary() throws Exception {
+        RecentWrites recentWrites = new RecentWrites(Duration.ofMillis(200));
+        recentWrites.record(1);
+        recentWrites.recordAll(List.of(2, 3));
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertThat(recentWrites.read(1, this::connection)).isSameAs(primaryConnection);
+        assertThat(recentWrites.read(3, this::connection)).isSameAs(primaryConnection);
+        assertThat(recentWrites.read(4, this::connection)).isSameAs(replicaConnection);
+
+        Thread.sleep(400);
+
+        assertThat(recentWrites.isRecent(1)).isFalse();
+        assertThat(recentWrites.read(1, this::connection)).isSameAs(replicaConnection);
+    }
+
+    @Test
+    void zeroWindowTracksNothing() {
+        RecentWrites recentWrites = new RecentWrites(Duration.ZERO);
+        recentWrites.record(1);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertThat(recentWrites.isRecent(1)).isFalse();
+        assertThat(recentWrites.read(1, this::connection)).isSameAs(replicaConnection);
+    }
+
+    private Connection connection() {
+        try {
+            return routing.getConnection();
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.employeeapp;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.http.HttpMessageConvertersAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.client.RestTemplateAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import com.example.employeeapp.config.RestTemplateConfig;
+
+class RestTemplateConfigTests {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(HttpMessageConvertersAutoConfiguration.class, RestTemplateAutoConfiguration.class))
+            .withUserConfiguration(RestTemplateConfig.class)
+            .withPropertyValues("address.client.base-url=http://localhost:8089");
+
+    @Test
+    void http11ClientIsPooled() {
+        contextRunner.run(context -> {
+            assertThat(context).hasSingleBean(PoolingHttpClientConnectionManager.class);
+            assertThat(context.getBean(RestTemplate.class).getRequestFactory())
+                    .isInstanceOf(HttpComponentsClientHttpRequestFactory.class);
+        });
+    }
+
+    @Test
+    void http2ClientBuildsNoConnectionPool() {
+        contextRunner.withPropertyValues("address.client.http2=true").run(context -> {
+            assertThat(context).doesNotHaveBean(PoolingHttpClientConnectionManager.class);
+            assertThat(context.getBean(RestTemplate.class).getRequestFactory())
+                    .isInstanceOf(JdkClientHttpRequestFactory.class);
+        });
+    }
+}
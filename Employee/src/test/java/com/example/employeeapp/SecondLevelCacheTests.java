@@ -0,0 +1,55 @@
+package com.example.employeeapp;
+
+import static com.example.employeeapp.EmployeeWithAddressTests.employeeRequest;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.example.employeeapp.EmployeeService.EmployeeService;
+import com.example.employeeapp.employeeEntity.Employee;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class SecondLevelCacheTests {
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void employeeWrittenHereIsReadBackFromTheCache() {
+        int id = employeeService.createEmployee(employeeRequest("cached")).getId();
+        Statistics statistics = statistics();
+        long hits = statistics.getSecondLevelCacheHitCount();
+        long loads = statistics.getEntityLoadCount();
+
+        assertThat(entityManagerFactory.getCache().contains(Employee.class, id)).isTrue();
+        assertThat(employeeService.getEmployeeById(id).getName()).isEqualTo("cached");
+        assertThat(statistics.getSecondLevelCacheHitCount()).isGreaterThan(hits);
+        assertThat(statistics.getEntityLoadCount()).isEqualTo(loads);
+    }
+
+    @Test
+    void repeatedListingIsServedFromTheQueryCache() {
+        employeeService.createEmployee(employeeRequest("listed"));
+        employeeService.getAllEmployees();
+        long queryHits = statistics().getQueryCacheHitCount();
+
+        employeeService.getAllEmployees();
+
+        assertThat(statistics().getQueryCacheHitCount()).isGreaterThan(queryHits);
+    }
+
+    private Statistics statistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+}
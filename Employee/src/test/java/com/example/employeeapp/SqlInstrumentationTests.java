@@ -0,0 +1,138 @@
+package com.example.employeeapp;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import com.example.employeeapp.sql.RequestQueryFilter;
+import com.example.employeeapp.sql.SqlStatementListener;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+
+class SqlInstrumentationTests {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RequestQueryFilter filter = new RequestQueryFilter(meterRegistry, 3);
+
+    private final JdbcDataSource h2 = new JdbcDataSource();
+    private SqlStatementListener listener;
+    private DataSource dataSource;
+
+    @BeforeEach
+    void createTable() throws SQLException {
+        h2.setURL("jdbc:h2:mem:sql-instrumentation;DB_CLOSE_DELAY=-1");
+        // Nothing here takes a minute, so no statement counts as slow unless a test lowers the threshold
+        instrument(TimeUnit.MINUTES.toNanos(1));
+        try (Connection connection = h2.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("create table if not exists item (id int primary key, name varchar(20))");
+            statement.execute("merge into item key (id) values (1, 'one'), (2, 'two'), (3, 'three')");
+        }
+    }
+
+    @AfterEach
+    void closeListener() {
+        listener.close();
+    }
+
+    @Test
+    void selectRepeatedWithinOneRequestIsReportedAsNPlusOne() throws Exception {
+        runRequest("/item/{id}", () -> {
+            for (int id = 1; id <= 3; id++) {
+                select("select name from item where id = ?", id);
+            }
+        });
+
+        assertThat(count("jdbc.n_plus_one", "/item/{id}")).isEqualTo(1);
+        assertThat(count("jdbc.redundant_reads", "/item/{id}")).isZero();
+    }
+
+    @Test
+    void sameRowReadTwiceWithinOneRequestIsReportedAsRedundant() throws Exception {
+        runRequest("/item/{id}/check", () -> {
+            select("select count(*) from item where id = ?", 2);
+            select("select name from item where id = ?", 2);
+        });
+
+        assertThat(count("jdbc.redundant_reads", "/item/{id}/check")).isEqualTo(1);
+        assertThat(count("jdbc.n_plus_one", "/item/{id}/check")).isZero();
+    }
+
+    @Test
+    void statementsOutsideARequestAreTimedButNotChecked() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            select("select name from item where id = ?", 1);
+        }
+
+        assertThat(meterRegistry.find("jdbc.statements")
+                .tags("datasource", "test-pool", "type", "SELECT", "outcome", "SUCCESS")
+                .timer().count()).isEqualTo(3);
+        assertThat(meterRegistry.find("jdbc.n_plus_one").counters()).isEmpty();
+        assertThat(meterRegistry.find("jdbc.statements.slow").counter().count()).isZero();
+    }
+
+    @Test
+    void statementOverTheThresholdIsCountedAsSlow() throws Exception {
+        listener.close();
+        instrument(0);
+
+        select("select name from item where id = ?", 1);
+
+        assertThat(meterRegistry.find("jdbc.statements.slow").counter().count()).isEqualTo(1);
+    }
+
+    private void instrument(long slowQueryNanos) {
+        listener = new SqlStatementListener(meterRegistry, slowQueryNanos, 10);
+        dataSource = ProxyDataSourceBuilder.create(h2).name("test-pool").listener(listener).build();
+    }
+
+    private void runRequest(String pattern, SqlWork work) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", pattern);
+        FilterChain chain = (servletRequest, servletResponse) -> {
+            servletRequest.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, pattern);
+            try {
+                work.run();
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        };
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+    }
+
+    private void select(String sql, int id) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+                PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setInt(1, id);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+            }
+        }
+    }
+
+    private double count(String name, String uri) {
+        Counter counter = meterRegistry.find(name).tags("method", "GET", "uri", uri).counter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    private interface SqlWork {
+        void run() throws SQLException;
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.employeeapp.benchmark;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.Address.grpc.Address;
+import com.Address.grpc.AddressServiceGrpc;
+import com.Address.grpc.Addresses;
+import com.Address.grpc.DeleteAddressesResponse;
+import com.Address.grpc.EmployeeId;
+import com.Address.grpc.EmployeeIds;
+import com.Address.grpc.UpsertAddressRequest;
+
+import io.grpc.Grpc;
+import io.grpc.InsecureServerCredentials;
+import io.grpc.Server;
+import io.grpc.stub.StreamObserver;
+
+/**
+ * gRPC counterpart of AddressStubServer: the same fixed address for every employee id, served from
+ * the same number of threads, so transport benchmarks compare only the wire protocol.
+ */
+public class AddressGrpcStubServer implements AutoCloseable {
+
+    private final Server server;
+    private final ExecutorService executor;
+
+    private AddressGrpcStubServer(Server server, ExecutorService executor) {
+        this.server = server;
+        this.executor = executor;
+    }
+
+    public static AddressGrpcStubServer start(int port) throws IOException {
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        Server server = Grpc.newServerBuilderForPort(port, InsecureServerCredentials.create())
+                .executor(executor)
+                .addService(new StubService())
+                .build()
+                .start();
+        return new AddressGrpcStubServer(server, executor);
+    }
+
+    public int getPort() {
+        return server.getPort();
+    }
+
+    private static final class StubService extends AddressServiceGrpc.AddressServiceImplBase {
+
+        @Override
+        public void getAddress(EmployeeId request, StreamObserver<Address> responseObserver) {
+            responseObserver.onNext(address(request.getEmployeeId()));
+            responseObserver.onCompleted();
+        }
+
+        @Override
+        public StreamObserver<EmployeeIds> getAddresses(StreamObserver<Addresses> responseObserver) {
+            return new StreamObserver<>() {
+                @Override
+                public void onNext(EmployeeIds request) {
+                    Addresses.Builder batch = Addresses.newBuilder();
+                    request.getEmployeeIdsList().forEach(id -> batch.addAddresses(address(id)));
+                    responseObserver.onNext(batch.build());
+                }
+
+                @Override
+                public void onError(Throwable t) {
+                }
+
+                @Override
+                public void onCompleted() {
+                    responseObserver.onCompleted();
+                }
+            };
+        }
+
+        @Override
+        public void upsertAddress(UpsertAddressRequest request, StreamObserver<Address> responseObserver) {
+            responseObserver.onNext(address(request.getEmployeeId()));
+            responseObserver.onCompleted();
+        }
+
+        @Override
+        public void deleteAddresses(EmployeeIds request, StreamObserver<DeleteAddressesResponse> responseObserver) {
+            responseObserver.onNext(DeleteAddressesResponse.getDefaultInstance());
+            responseObserver.onCompleted();
+        }
+    }
+
+    private static Address address(int employeeId) {
+        return Address.newBuilder()
+                .setAddressId(employeeId)
+                .setEmployeeId(employeeId)
+                .setLane1("221B Baker Street")
+                .setLane2("Marylebone")
+                .setState("London")
+                .setZip(10001)
+                .build();
+    }
+
+    @Override
+    public void close() {
+        server.shutdownNow();
+        executor.shutdownNow();
+    }
+}
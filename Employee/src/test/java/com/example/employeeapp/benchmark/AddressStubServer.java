@@ -0,0 +1,111 @@
+package com.example.employeeapp.benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Minimal in-process stand-in for the Address service so Employee benchmarks
+ * measure real HTTP round trips without depending on a running Address app.
+ * Every employee id resolves to a fixed address; writes echo a fixed body.
+ */
+public class AddressStubServer implements AutoCloseable {
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    private AddressStubServer(HttpServer server, ExecutorService executor) {
+        this.server = server;
+        this.executor = executor;
+    }
+
+    public static AddressStubServer start(int port) throws IOException {
+        // Without this the stub's split header/body writes hit Nagle + delayed ACK stalls
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+        HttpServer server = HttpServer.create(new InetSocketAddress("localhost", port), 512);
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        server.setExecutor(executor);
+        server.createContext("/address", AddressStubServer::handle);
+        server.start();
+        return new AddressStubServer(server, executor);
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    private static void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String path = exchange.getRequestURI().getPath();
+            String method = exchange.getRequestMethod();
+            byte[] requestBody;
+            try (InputStream in = exchange.getRequestBody()) {
+                requestBody = in.readAllBytes();
+            }
+
+            if ("DELETE".equals(method)) {
+                exchange.sendResponseHeaders(204, -1);
+                return;
+            }
+            if ("POST".equals(method) && path.endsWith("/batch")) {
+                send(exchange, 200, batchJson(new String(requestBody, StandardCharsets.UTF_8)));
+                return;
+            }
+            if ("POST".equals(method)) {
+                send(exchange, 201, addressJson(1));
+                return;
+            }
+            send(exchange, 200, addressJson(idFrom(path)));
+        }
+    }
+
+    private static int idFrom(String path) {
+        String last = path.substring(path.lastIndexOf('/') + 1);
+        try {
+            return Integer.parseInt(last);
+        } catch (NumberFormatException e) {
+            return 1;
+        }
+    }
+
+    private static String batchJson(String ids) {
+        StringBuilder json = new StringBuilder("[");
+        for (String id : ids.replaceAll("[\\[\\]\\s]", "").split(",")) {
+            if (id.isEmpty()) {
+                continue;
+            }
+            if (json.length() > 1) {
+                json.append(',');
+            }
+            json.append(addressJson(Integer.parseInt(id)));
+        }
+        return json.append(']').toString();
+    }
+
+    private static String addressJson(int id) {
+        return "{\"addressId\":" + id + ",\"employeeId\":" + id + ",\"lane_1\":\"221B Baker Street\",\"lane_2\":\"Marylebone\","
+                + "\"state\":\"London\",\"zip\":10001,\"version\":0}";
+    }
+
+    private static void send(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
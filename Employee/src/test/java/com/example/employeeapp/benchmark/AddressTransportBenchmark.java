@@ -0,0 +1,105 @@
+package com.example.employeeapp.benchmark;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.example.employeeapp.DemoApplication;
+import com.example.employeeapp.EmployeeResponse.AddressResponse;
+import com.example.employeeapp.client.AddressTransport;
+
+/**
+ * REST/JSON versus gRPC/Protobuf for the Employee to Address calls, against in-process stubs of both.
+ * Calls the configured AddressTransport directly, so the address cache and circuit breaker are not measured.
+ * Run with -prof gc, as the benchmark profile does, to compare bytes allocated per call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(16)
+@Fork(1)
+public class AddressTransportBenchmark {
+
+    @Param({ "http", "grpc" })
+    private String transport;
+
+    @Param({ "100", "2000" })
+    private int batchSize;
+
+    private AddressStubServer addressStub;
+    private AddressGrpcStubServer addressGrpcStub;
+    private ConfigurableApplicationContext context;
+    private AddressTransport addressTransport;
+    private List<Integer> batchIds;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        addressStub = AddressStubServer.start(0);
+        addressGrpcStub = AddressGrpcStubServer.start(0);
+        context = new SpringApplicationBuilder(DemoApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                // Command-line arguments, unlike builder properties, take precedence over application.properties
+                .run("--logging.level.root=WARN",
+                        "--address.client.transport=" + transport,
+                        "--address.client.base-url=http://localhost:" + addressStub.getPort(),
+                        "--address.client.grpc-target=localhost:" + addressGrpcStub.getPort());
+        addressTransport = context.getBean(AddressTransport.class);
+        batchIds = IntStream.rangeClosed(1, batchSize).boxed().collect(Collectors.toList());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+        addressGrpcStub.close();
+        addressStub.close();
+    }
+
+    // Many small concurrent calls: a pooled HTTP/1.1 connection each, or streams on one HTTP/2 connection
+    @Benchmark
+    public AddressResponse getAddress() {
+        return addressTransport.getAddress(ThreadLocalRandom.current().nextInt(1, 100_000));
+    }
+
+    // One large fan-out: a single JSON array, or batchSize ids streamed in address.client.grpc-batch-size messages
+    @Benchmark
+    public List<AddressResponse> getAddresses() {
+        return addressTransport.getAddresses(batchIds);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(AddressTransportBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,199 @@
+package com.example.employeeapp.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.example.employeeapp.DemoApplication;
+import com.example.employeeapp.EmployeeResponse.EmployeeFields;
+import com.example.employeeapp.EmployeeResponse.EmployeeResponse;
+import com.example.employeeapp.EmployeeService.EmployeeService;
+import com.example.employeeapp.search.EmployeeSearchIndex;
+
+/**
+ * Type-ahead and filter latency at 1M employees (p0.99 in the SampleTime rows).
+ * The search benchmarks run against the in-memory index alone; the filter benchmarks go through
+ * EmployeeService to H2 with the entity's indexes, seeded straight through JDBC; the list benchmarks
+ * compare a page of full employees with the same page as a sparse fieldset.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+public class EmployeeQueryBenchmark {
+
+    private static final int EMPLOYEES = 1_000_000;
+    private static final int RESULTS = 10;
+    private static final int PAGE = 1000;
+    private static final List<String> NAME_ONLY = EmployeeFields.parse(List.of("name"));
+
+    private static final String[] FIRST_NAMES = {
+            "James", "Mary", "John", "Patricia", "Robert", "Jennifer", "Michael", "Linda", "William", "Elizabeth",
+            "David", "Barbara", "Richard", "Susan", "Joseph", "Jessica", "Thomas", "Sarah", "Charles", "Karen",
+            "Christopher", "Nancy", "Daniel", "Lisa", "Matthew", "Betty", "Anthony", "Margaret", "Mark", "Sandra" };
+    private static final String[] LAST_NAMES = {
+            "Smith", "Johnson", "Williams", "Brown", "Jones", "Garcia", "Miller", "Davis", "Rodriguez", "Martinez",
+            "Hernandez", "Lopez", "Gonzalez", "Wilson", "Anderson", "Thomas", "Taylor", "Moore", "Jackson", "Martin",
+            "Lee", "Perez", "Thompson", "White", "Harris", "Sanchez", "Clark", "Ramirez", "Lewis", "Robinson" };
+    private static final String[] DOMAINS = { "example.com", "acme.org", "mail.net", "corp.io" };
+    private static final String[] BLOODGROUPS = { "O+", "O-", "A+", "A-", "B+", "B-", "AB+", "AB-" };
+
+    @State(Scope.Benchmark)
+    public static class SearchIndexState {
+        EmployeeSearchIndex searchIndex;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            searchIndex = new EmployeeSearchIndex();
+            for (int id = 1; id <= EMPLOYEES; id++) {
+                String[] employee = employee(id);
+                searchIndex.put(id, employee[0], employee[1]);
+            }
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class DatabaseState {
+        ConfigurableApplicationContext context;
+        EmployeeService employeeService;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            context = new SpringApplicationBuilder(DemoApplication.class)
+                    .web(WebApplicationType.NONE)
+                    .profiles("test")
+                    // Command-line arguments, unlike builder properties, take precedence over application.properties
+                    .run("--logging.level.root=WARN");
+            employeeService = context.getBean(EmployeeService.class);
+            JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+            List<Object[]> rows = new ArrayList<>();
+            for (int id = 1; id <= EMPLOYEES; id++) {
+                String[] employee = employee(id);
+                rows.add(new Object[] { id, employee[0], employee[1], employee[2] });
+                if (rows.size() == 10_000 || id == EMPLOYEES) {
+                    jdbcTemplate.batchUpdate("INSERT INTO employee (employee_id, name, email, bloodgroup) VALUES (?, ?, ?, ?)", rows);
+                    rows.clear();
+                }
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            context.close();
+        }
+    }
+
+    // A word prefix most employees share; the first ten are found at the head of the postings
+    @Benchmark
+    public List<Integer> searchOneLetter(SearchIndexState state) {
+        return state.searchIndex.search(randomOf(FIRST_NAMES).substring(0, 1), RESULTS);
+    }
+
+    @Benchmark
+    public List<Integer> searchTwoLetters(SearchIndexState state) {
+        return state.searchIndex.search(randomOf(LAST_NAMES).substring(0, 2), RESULTS);
+    }
+
+    // Common trigrams anywhere in the text, each candidate checked against the name and email
+    @Benchmark
+    public List<Integer> searchSubstring(SearchIndexState state) {
+        String lastName = randomOf(LAST_NAMES);
+        return state.searchIndex.search(lastName.substring(lastName.length() - 3), RESULTS);
+    }
+
+    // One employee's email up to the @: rare trigrams from the digits intersected with very common ones
+    @Benchmark
+    public List<Integer> searchSelective(SearchIndexState state) {
+        String email = employee(randomId())[1];
+        return state.searchIndex.search(email.substring(0, email.indexOf('@')), RESULTS);
+    }
+
+    // A rename: old grams leave their postings, new ones are inserted in id order
+    @Benchmark
+    public void reindexEmployee(SearchIndexState state) {
+        int id = randomId();
+        String first = randomOf(FIRST_NAMES);
+        String last = randomOf(LAST_NAMES);
+        state.searchIndex.put(id, first + " " + last, email(first, last, id));
+    }
+
+    // About 1 in 8 rows match; a page of 100 from a random cursor on ix_employee_bloodgroup.
+    // H2 still sorts the rest of the blood group after the cursor, where MySQL reads the 100 rows off the index in order
+    @Benchmark
+    public List<EmployeeResponse> findByBloodgroup(DatabaseState state) {
+        int after = ThreadLocalRandom.current().nextInt(EMPLOYEES);
+        return state.employeeService.findEmployees(List.of(randomOf(BLOODGROUPS)), null, after, 100);
+    }
+
+    @Benchmark
+    public List<EmployeeResponse> findByEmail(DatabaseState state) {
+        return state.employeeService.findEmployees(null, employee(randomId())[1], 0, null);
+    }
+
+    // A dashboard page of 1000 rows as full entities, against the same page with ?fields=name (id and name columns only)
+    @Benchmark
+    public List<EmployeeResponse> listPage(DatabaseState state) {
+        return state.employeeService.findEmployees(null, null, ThreadLocalRandom.current().nextInt(EMPLOYEES - PAGE), PAGE);
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> listPageNameOnly(DatabaseState state) {
+        return state.employeeService.findEmployeeFields(NAME_ONLY, null, null, ThreadLocalRandom.current().nextInt(EMPLOYEES - PAGE), PAGE);
+    }
+
+    // Name, email and blood group of the seeded employee with this id; the same for the same id
+    private static String[] employee(int id) {
+        SplittableRandom random = new SplittableRandom(id);
+        String first = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+        String last = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+        return new String[] { first + " " + last, email(first, last, id), BLOODGROUPS[random.nextInt(BLOODGROUPS.length)] };
+    }
+
+    private static int randomId() {
+        return ThreadLocalRandom.current().nextInt(1, EMPLOYEES + 1);
+    }
+
+    private static String email(String first, String last, int id) {
+        return (first + "." + last + id + "@" + DOMAINS[id % DOMAINS.length]).toLowerCase();
+    }
+
+    private static String randomOf(String[] values) {
+        return values[ThreadLocalRandom.current().nextInt(values.length)];
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(EmployeeQueryBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
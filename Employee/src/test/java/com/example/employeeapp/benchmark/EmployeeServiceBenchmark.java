@@ -0,0 +1,116 @@
+package com.example.employeeapp.benchmark;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.example.employeeapp.DemoApplication;
+import com.example.employeeapp.EmployeeResponse.AddressRequest;
+import com.example.employeeapp.EmployeeResponse.EmployeeRequest;
+import com.example.employeeapp.EmployeeResponse.EmployeeResponse;
+import com.example.employeeapp.EmployeeResponse.EmployeeWithAddressResponse;
+import com.example.employeeapp.EmployeeService.EmployeeService;
+
+/**
+ * EmployeeService hot paths against in-memory H2 and a stubbed Address HTTP server.
+ * Reports throughput and sampled latency (p0.99 in the SampleTime rows);
+ * run with -prof gc, as the benchmark profile does, for bytes allocated per op.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class EmployeeServiceBenchmark {
+
+    private static final int SEEDED_EMPLOYEES = 1_000;
+
+    private AddressStubServer addressStub;
+    private ConfigurableApplicationContext context;
+    private EmployeeService employeeService;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        addressStub = AddressStubServer.start(0);
+        context = new SpringApplicationBuilder(DemoApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                // Command-line arguments, unlike builder properties, take precedence over application.properties
+                .run("--logging.level.root=WARN",
+                        "--address.client.base-url=http://localhost:" + addressStub.getPort());
+        employeeService = context.getBean(EmployeeService.class);
+        for (int i = 0; i < SEEDED_EMPLOYEES; i++) {
+            employeeService.createEmployee(employeeRequest(i, false));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+        addressStub.close();
+    }
+
+    @Benchmark
+    public EmployeeWithAddressResponse getEmployeeWithAddress() {
+        return employeeService.getEmployeeWithAddress(ThreadLocalRandom.current().nextInt(1, SEEDED_EMPLOYEES + 1));
+    }
+
+    @Benchmark
+    public List<EmployeeResponse> getAllEmployees() {
+        return employeeService.getAllEmployees();
+    }
+
+    @Benchmark
+    public EmployeeWithAddressResponse createEmployeeWithAddress() {
+        return employeeService.createEmployeeWithAddress(employeeRequest(ThreadLocalRandom.current().nextInt(), true));
+    }
+
+    static EmployeeRequest employeeRequest(int n, boolean withAddress) {
+        EmployeeRequest employeeRequest = new EmployeeRequest();
+        employeeRequest.setName("Employee " + n);
+        employeeRequest.setEmail("employee" + n + "@example.com");
+        employeeRequest.setBloodgroup("O-");
+        if (withAddress) {
+            AddressRequest addressRequest = new AddressRequest();
+            addressRequest.setLane_1("221B Baker Street");
+            addressRequest.setLane_2("Marylebone");
+            addressRequest.setState("London");
+            addressRequest.setZip(10001);
+            employeeRequest.setAddress(addressRequest);
+        }
+        return employeeRequest;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(EmployeeServiceBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
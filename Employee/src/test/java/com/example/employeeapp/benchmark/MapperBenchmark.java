@@ -0,0 +1,89 @@
+package com.example.employeeapp.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.example.employeeapp.EmployeeResponse.EmployeeRequest;
+import com.example.employeeapp.EmployeeResponse.EmployeeResponse;
+import com.example.employeeapp.employeeEntity.Employee;
+import com.example.employeeapp.mapper.EmployeeMapper;
+
+/**
+ * Per-row cost of EmployeeMapper against the reflective ModelMapper it replaced.
+ * Run the main method (or any JMH runner) and read gc.alloc.rate.norm for bytes per row.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+
+    private ModelMapper modelMapper;
+    private EmployeeMapper employeeMapper;
+    private Employee employee;
+    private EmployeeRequest employeeRequest;
+
+    @Setup
+    public void setUp() {
+        // Same construction as the former ModelMapperConfig bean
+        modelMapper = new ModelMapper();
+        employeeMapper = new EmployeeMapper();
+
+        employee = new Employee();
+        employee.setId(42);
+        employee.setName("Jane Doe");
+        employee.setEmail("jane.doe@example.com");
+        employee.setBloodgroup("O-");
+
+        employeeRequest = new EmployeeRequest();
+        employeeRequest.setName("Jane Doe");
+        employeeRequest.setEmail("jane.doe@example.com");
+        employeeRequest.setBloodgroup("O-");
+    }
+
+    @Benchmark
+    public EmployeeResponse modelMapperToResponse() {
+        return modelMapper.map(employee, EmployeeResponse.class);
+    }
+
+    @Benchmark
+    public EmployeeResponse employeeMapperToResponse() {
+        return employeeMapper.toResponse(employee);
+    }
+
+    @Benchmark
+    public Employee modelMapperToEntity() {
+        return modelMapper.map(employeeRequest, Employee.class);
+    }
+
+    @Benchmark
+    public Employee employeeMapperToEntity() {
+        return employeeMapper.toEntity(employeeRequest);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(MapperBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}